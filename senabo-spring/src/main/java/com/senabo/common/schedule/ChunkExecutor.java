@@ -0,0 +1,171 @@
+package com.senabo.common.schedule;
+
+import com.senabo.domain.jobrun.entity.JobRun;
+import com.senabo.domain.jobrun.entity.JobRunChunk;
+import com.senabo.domain.jobrun.service.JobRunService;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+// 스케줄러 청크 병렬 실행기
+// - 청크마다 트랜잭션 하나, 청크가 실패하면 회원 단위 트랜잭션으로 다시 실행해서 실패를 격리
+// - 동시에 처리 중인 청크는 스레드 수만큼으로 제한하고, 결과는 읽은 순서대로 sink 에 전달
+// - 청크 트랜잭션에 처리한 회원 id 구간을 함께 기록하고, sink 까지 끝난 청크의 마지막 회원 id 를 JobRun 체크포인트로 기록
+// - 회원 단위 재시도까지 실패한 회원이 있으면 실행을 실패로 끝내서 재시작 때 그 회원부터 다시 처리
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChunkExecutor {
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+    private final JobRunService jobRunService;
+
+    @Value("${scheduler.parallelism}")
+    private int parallelism;
+
+    private ExecutorService executor;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        int poolSize = Math.max(1, parallelism);
+        // 커넥션 풀보다 많이 띄우면 대기만 늘어나므로 API 요청용 커넥션 2개를 남기고 제한
+        if (dataSource instanceof HikariDataSource hikariDataSource) {
+            poolSize = Math.min(poolSize, Math.max(1, hikariDataSource.getMaximumPoolSize() - 2));
+        }
+        parallelism = poolSize;
+        executor = Executors.newFixedThreadPool(poolSize, new CustomizableThreadFactory("scheduler-worker-"));
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        log.info("스케줄러 병렬 실행 스레드 수: {}", poolSize);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public <T> void run(JobRun run, ChunkReader<T> reader, ToLongFunction<T> idOf, Consumer<List<T>> work) {
+        run(run, reader, idOf, chunk -> {
+            work.accept(chunk);
+            return Boolean.TRUE;
+        }, result -> {
+        });
+    }
+
+    // run 의 체크포인트(lastMemberId) 다음 회원부터 읽고, 앞선 청크가 모두 끝난 청크까지 체크포인트 기록
+    // 실패한 회원이 있으면 체크포인트는 그 앞에서 멈추고, 끝까지 처리한 뒤 예외를 던져 실행을 실패로 남김
+    public <T, R> void run(JobRun run, ChunkReader<T> reader, ToLongFunction<T> idOf, Function<List<T>, R> work, Consumer<R> sink) {
+        // 이전 실행이 체크포인트 뒤에서 커밋한 구간 (첫 회원 id -> 마지막 회원 id)
+        NavigableMap<Long, Long> committed = new TreeMap<>();
+        for (JobRunChunk chunk : jobRunService.findCommittedChunks(run.getId(), run.getLastMemberId())) {
+            committed.put(chunk.getFirstMemberId(), chunk.getLastMemberId());
+        }
+
+        AtomicInteger failed = new AtomicInteger();
+        Deque<Pending<R>> inFlight = new ArrayDeque<>();
+        reader.read(run.getShard(), run.getLastMemberId(), chunk -> {
+            List<T> remaining = committed.isEmpty() ? chunk : chunk.stream()
+                    .filter(item -> !isCommitted(committed, idOf.applyAsLong(item)))
+                    .toList();
+            Future<ChunkResult<R>> future = remaining.isEmpty()
+                    ? CompletableFuture.completedFuture(new ChunkResult<>(List.of(), 0))
+                    : executor.submit(() -> process(run, remaining, idOf, work));
+            inFlight.addLast(new Pending<>(future, idOf.applyAsLong(chunk.get(chunk.size() - 1)), chunk.size()));
+            if (inFlight.size() >= parallelism) drain(run, inFlight.removeFirst(), sink, failed);
+        });
+        while (!inFlight.isEmpty()) {
+            drain(run, inFlight.removeFirst(), sink, failed);
+        }
+        if (failed.get() > 0) {
+            throw new IllegalStateException(run.getJob() + " 회원 " + failed.get() + "명 처리 실패");
+        }
+    }
+
+    private record Pending<R>(Future<ChunkResult<R>> future, long lastId, int size) {
+    }
+
+    private record ChunkResult<R>(List<R> results, int failed) {
+    }
+
+    private static boolean isCommitted(NavigableMap<Long, Long> committed, long id) {
+        Map.Entry<Long, Long> range = committed.floorEntry(id);
+        return range != null && id <= range.getValue();
+    }
+
+    private <T, R> ChunkResult<R> process(JobRun run, List<T> chunk, ToLongFunction<T> idOf, Function<List<T>, R> work) {
+        List<R> results = new ArrayList<>();
+        try {
+            results.add(transactionTemplate.execute(status -> commit(run, chunk, idOf, work)));
+            return new ChunkResult<>(results, 0);
+        } catch (RuntimeException e) {
+            log.error(run.getJob() + " 청크 실패, 회원 단위로 재시도: {}", e.getMessage());
+        }
+
+        int failed = 0;
+        for (T item : chunk) {
+            try {
+                results.add(transactionTemplate.execute(status -> commit(run, List.of(item), idOf, work)));
+            } catch (RuntimeException e) {
+                failed++;
+                log.error(run.getJob() + " 회원 처리 실패: member id " + idOf.applyAsLong(item) + ", {}", e.getMessage());
+            }
+        }
+        return new ChunkResult<>(results, failed);
+    }
+
+    // 처리 결과와 처리한 구간을 같은 트랜잭션으로 커밋
+    private <T, R> R commit(JobRun run, List<T> items, ToLongFunction<T> idOf, Function<List<T>, R> work) {
+        R result = work.apply(items);
+        jobRunService.recordChunk(run.getId(), idOf.applyAsLong(items.get(0)), idOf.applyAsLong(items.get(items.size() - 1)));
+        return result;
+    }
+
+    private <R> void drain(JobRun run, Pending<R> pending, Consumer<R> sink, AtomicInteger failed) {
+        int chunkFailed;
+        try {
+            ChunkResult<R> result = pending.future().get();
+            for (R item : result.results()) {
+                sink.accept(item);
+            }
+            chunkFailed = result.failed();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(run.getJob() + " 중단", e);
+        } catch (ExecutionException e) {
+            log.error(run.getJob() + " 에러 발생: {}", e.getCause().getMessage());
+            chunkFailed = pending.size();
+        }
+
+        // 실패가 한 번이라도 있으면 체크포인트를 넘기지 않음, 그 뒤 커밋한 청크는 구간 기록으로 재실행 때 건너뜀
+        if (failed.addAndGet(chunkFailed) == 0) {
+            jobRunService.checkpoint(run.getId(), pending.lastId(), pending.size());
+        } else {
+            jobRunService.renewLease(run.getId());
+        }
+    }
+}
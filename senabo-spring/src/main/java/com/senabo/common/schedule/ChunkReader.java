@@ -0,0 +1,11 @@
+package com.senabo.common.schedule;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+// 샤드 구간에서 lastId 다음 회원부터 청크 단위로 읽어 consumer 에 전달
+@FunctionalInterface
+public interface ChunkReader<T> {
+
+    void read(ShardRange shard, Long lastId, Consumer<List<T>> consumer);
+}
@@ -0,0 +1,19 @@
+package com.senabo.common.schedule;
+
+import org.springframework.scheduling.support.CronExpression;
+
+import java.time.LocalDateTime;
+
+// 기존 @Scheduled cron 식을 그대로 써서 실행 시각을 판단하는 규칙
+public abstract class CronTickRule implements TickRule {
+    private final CronExpression cron;
+
+    protected CronTickRule(String cron) {
+        this.cron = CronExpression.parse(cron);
+    }
+
+    @Override
+    public boolean supports(LocalDateTime tickTime) {
+        return tickTime.equals(cron.next(tickTime.minusSeconds(1)));
+    }
+}
@@ -0,0 +1,103 @@
+package com.senabo.common.schedule;
+
+import com.senabo.config.firebase.FCMMessage;
+import com.senabo.domain.emergency.service.EmergencyService;
+import com.senabo.domain.feed.service.FeedService;
+import com.senabo.domain.member.dto.MemberTick;
+import com.senabo.domain.member.service.MemberService;
+import com.senabo.domain.notification.service.NotificationOutboxService;
+import com.senabo.domain.stress.service.StressService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HourlyTickService {
+    private final List<TickRule> rules;
+    private final ChunkExecutor chunkExecutor;
+    private final ShardCoordinator shardCoordinator;
+    private final JobRunner jobRunner;
+    private final MemberService memberService;
+    private final FeedService feedService;
+    private final EmergencyService emergencyService;
+    private final StressService stressService;
+    private final NotificationOutboxService notificationOutboxService;
+
+    private static final String JOB = "tick";
+
+    @PostConstruct
+    public void init() {
+        jobRunner.register(JOB, Duration.ofMinutes(50), this::runShard);
+    }
+
+    // 1시간 마다 실행 ex) 01:00, 02:00, 03:00 ...
+    // 배식, 배변, 돌발상황 규칙을 회원 한 번 순회로 처리
+    @Scheduled(cron = "0 0 0/1 * * *")
+    public void scheduleTick() {
+        tick(LocalDateTime.now().truncatedTo(ChronoUnit.HOURS));
+    }
+
+    public void tick(LocalDateTime tickTime) {
+        log.info("매시 스케줄러 실행: " + tickTime + ", 규칙 " + activeRules(tickTime).size() + "개");
+        if (activeRules(tickTime).isEmpty()) return;
+
+        shardCoordinator.runShards(JOB, tickTime, shard -> runShard(tickTime, shard));
+    }
+
+    private CompletableFuture<Void> runShard(LocalDateTime tickTime, ShardRange shard) {
+        List<TickRule> activeRules = activeRules(tickTime);
+
+        // due 기반 규칙(배식 스케줄, 돌발상황 계획)만 도는 시각이면 due 가 지난 회원만 조회
+        boolean dueOnly = activeRules.stream().allMatch(TickRule::dueOnly);
+        ChunkReader<MemberTick> reader = dueOnly
+                ? (range, lastId, consumer) -> memberService.forEachDueMemberTickChunk(tickTime, range, lastId, consumer)
+                : memberService::forEachMemberTickChunk;
+
+        return jobRunner.run(JOB, tickTime, shard, run ->
+                chunkExecutor.run(run, reader, MemberTick::id,
+                        chunk -> process(tickTime, activeRules, chunk)));
+    }
+
+    private List<TickRule> activeRules(LocalDateTime tickTime) {
+        return rules.stream()
+                .filter(rule -> rule.supports(tickTime))
+                .toList();
+    }
+
+    // 청크 트랜잭션 안에서 실행, 보낼 FCM 은 같은 트랜잭션으로 outbox 에 저장
+    private void process(LocalDateTime tickTime, List<TickRule> activeRules, List<MemberTick> chunk) {
+        TickContext context = new TickContext(tickTime, chunk, feedService, emergencyService);
+        for (MemberTick member : chunk) {
+            if (member.id() == 16) continue;
+            for (TickRule rule : activeRules) {
+                if (rule.accepts(member)) apply(rule, member, context);
+            }
+        }
+        stressService.flushLedger(context.getLedger());
+        emergencyService.saveEmergencies(context.getEmergencies());
+        // 돌발상황 규칙이 돈 틱에만 계획을 옮김 (배식만 도는 틱에 계획을 새로 조회하지 않도록)
+        if (context.emergencyPlansLoaded() || activeRules.stream().anyMatch(TickRule::usesEmergencyPlan)) {
+            emergencyService.advanceEmergencyPlans(context.emergencyPlans(), tickTime);
+        }
+        notificationOutboxService.enqueue(JOB + ":" + tickTime, context.getMessages());
+    }
+
+    private void apply(TickRule rule, MemberTick member, TickContext context) {
+        try {
+            FCMMessage message = rule.apply(member, context);
+            if (message.getMessage().getToken() != null) context.getMessages().add(message);
+        } catch (RuntimeException e) {
+            log.error("Member ID: " + member.id() + " " + rule.getClass().getSimpleName() + " 에러 발생: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.senabo.common.schedule;
+
+import com.senabo.domain.jobrun.entity.JobRun;
+import com.senabo.domain.jobrun.service.JobRunService;
+import com.senabo.exception.message.ExceptionMessage;
+import com.senabo.exception.model.DataException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+// 스케줄러 실행을 JobRun 으로 등록하고 완료/실패 처리
+// 재시작하면 resumeWindow 안의 끝나지 않은 실행을 체크포인트부터 이어서 실행
+// scheduler.spread.{job} 이 설정된 job 은 버킷(id % 64)마다 tick + spread * bucket / 64 시각에 나눠서 실행
+// 버킷은 전용 스레드(scheduler-bucket-)에 예약해서 공용 @Scheduled 스레드를 잡고 기다리지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobRunner {
+    private final JobRunService jobRunService;
+    private final Environment environment;
+    private final Map<String, Registration> registrations = new ConcurrentHashMap<>();
+
+    @Value("${scheduler.bucket-pool-size}")
+    private int bucketPoolSize;
+
+    // 단위: ms
+    @Value("${scheduler.job-run.retention}")
+    private long retention;
+
+    private ScheduledExecutorService bucketExecutor;
+
+    private record Registration(Duration resumeWindow, BiFunction<LocalDateTime, ShardRange, CompletableFuture<Void>> task) {
+    }
+
+    @PostConstruct
+    public void init() {
+        bucketExecutor = Executors.newScheduledThreadPool(Math.max(1, bucketPoolSize), new CustomizableThreadFactory("scheduler-bucket-"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        int pending = bucketExecutor.shutdownNow().size();
+        if (pending > 0) log.warn("분산 실행 중단: 시작 전 버킷 " + pending + "개 미실행");
+    }
+
+    public void register(String job, Duration resumeWindow, BiFunction<LocalDateTime, ShardRange, CompletableFuture<Void>> task) {
+        registrations.put(job, new Registration(resumeWindow, task));
+    }
+
+    // 분산 실행이 아니면 호출한 스레드에서 바로 실행, 분산 실행이면 버킷을 예약하고 바로 반환
+    // 반환한 future 는 모든 버킷이 끝나면 완료
+    public CompletableFuture<Void> run(String job, LocalDateTime tickTime, ShardRange shard, Consumer<JobRun> body) {
+        Duration spread = spreadOf(job);
+        if (spread.isZero()) {
+            try {
+                runOnce(job, tickTime, shard, body);
+                return CompletableFuture.completedFuture(null);
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        // 규칙은 tickTime 기준으로 판단하므로 늦게 실행되는 버킷도 결과는 같음
+        List<CompletableFuture<Void>> buckets = new ArrayList<>();
+        for (int bucket = shard.from(); bucket <= shard.to(); bucket++) {
+            LocalDateTime startTime = tickTime.plus(spread.toMillis() * bucket / ShardRange.BUCKETS, ChronoUnit.MILLIS);
+            long delay = Math.max(0, Duration.between(LocalDateTime.now(), startTime).toMillis());
+            ShardRange range = new ShardRange(bucket, bucket);
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            bucketExecutor.schedule(() -> {
+                try {
+                    runBucket(job, tickTime, range, body);
+                    future.complete(null);
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+            buckets.add(future);
+        }
+        return CompletableFuture.allOf(buckets.toArray(CompletableFuture[]::new));
+    }
+
+    private void runBucket(String job, LocalDateTime tickTime, ShardRange bucket, Consumer<JobRun> body) {
+        try {
+            runOnce(job, tickTime, bucket, body);
+        } catch (DataException e) {
+            // 잠긴 버킷은 건너뛰고 나머지 버킷 계속 실행
+            if (!ExceptionMessage.JOB_RUN_LOCKED.getMessage().equals(e.getMessage())) throw e;
+            log.warn(job + " " + tickTime + " " + bucket.from() + "번 버킷 건너뜀: {}", e.getMessage());
+        }
+    }
+
+    public Duration spreadOf(String job) {
+        return Duration.ofMillis(environment.getProperty("scheduler.spread." + job, Long.class, 0L));
+    }
+
+    private void runOnce(String job, LocalDateTime tickTime, ShardRange shard, Consumer<JobRun> body) {
+        Optional<JobRun> runOptional = jobRunService.start(job, tickTime, shard);
+        if (runOptional.isEmpty()) {
+            log.info(job + " " + tickTime + " 이미 완료된 실행");
+            return;
+        }
+
+        JobRun run = runOptional.get();
+        try {
+            body.accept(run);
+            jobRunService.complete(run.getId());
+        } catch (RuntimeException e) {
+            jobRunService.fail(run.getId());
+            throw e;
+        }
+    }
+
+    // 매일 오전 4시 40분, 보관 기간이 지난 실행 기록 삭제
+    @Scheduled(cron = "0 40 4 * * *")
+    public void purge() {
+        long count = jobRunService.purgeBefore(LocalDateTime.now().minus(Duration.ofMillis(retention)));
+        log.info("스케줄러 실행 기록 정리: " + count + "건");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        CompletableFuture.runAsync(this::resume);
+    }
+
+    private void resume() {
+        LocalDateTime now = LocalDateTime.now();
+        Set<String> resumed = new HashSet<>();
+        for (JobRun run : jobRunService.findResumable(now.minusDays(1))) {
+            Registration registration = registrations.get(run.getJob());
+            if (registration == null || run.getTickTime().plus(registration.resumeWindow()).isBefore(now)) continue;
+
+            // 분산 실행 job 은 시작 못 한 버킷도 남아 있으므로 전체 구간을 다시 돌림 (완료된 버킷은 건너뜀)
+            boolean spread = !spreadOf(run.getJob()).isZero();
+            if (spread && !resumed.add(run.getJob() + " " + run.getTickTime())) continue;
+            ShardRange shard = spread ? ShardRange.ALL : run.getShard();
+
+            log.info(run.getJob() + " " + run.getTickTime() + " 끝나지 않은 실행 재개");
+            try {
+                registration.task().apply(run.getTickTime(), shard).whenComplete((result, t) -> {
+                    if (t != null) log.error(run.getJob() + " 재개 실패: {}", t.getMessage());
+                });
+            } catch (RuntimeException e) {
+                log.error(run.getJob() + " 재개 실패: {}", e.getMessage());
+            }
+        }
+    }
+}
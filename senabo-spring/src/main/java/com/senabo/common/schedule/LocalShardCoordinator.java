@@ -0,0 +1,29 @@
+package com.senabo.common.schedule;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+// 단일 인스턴스(로컬, 테스트)용: 전체 구간을 바로 실행
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "scheduler.shard.mode", havingValue = "local", matchIfMissing = true)
+public class LocalShardCoordinator implements ShardCoordinator {
+
+    @Override
+    public void runShards(String job, LocalDateTime tick, Function<ShardRange, CompletableFuture<Void>> work) {
+        CompletableFuture<Void> future;
+        try {
+            future = work.apply(ShardRange.ALL);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((result, t) -> {
+            if (t != null) log.error(job + " 실행 실패: {}", t.getMessage());
+        });
+    }
+}
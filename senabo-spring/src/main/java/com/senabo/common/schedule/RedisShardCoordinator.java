@@ -0,0 +1,182 @@
+package com.senabo.common.schedule;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// Redis 기반 샤딩
+// - 살아있는 노드는 scheduler:nodes(zset)에 heartbeat 를 남기고, 버킷을 SEGMENTS 개 구간으로 나눠 노드 순서대로 연속 구간을 맡음
+// - 구간 실행 전 job, tick, 구간별 lease 를 SET NX 로 잡고 heartbeat 마다 연장, 끝나면 done 표시
+// - 자기 구간을 끝낸 노드는 done 이 아닌 구간 중 lease 가 없는(죽은 노드의) 구간을 이어받음
+// - heartbeat 와 인계 대기는 전용 스레드에서 돌려서 공용 @Scheduled 스레드가 밀려도 lease 가 만료되지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "scheduler.shard.mode", havingValue = "redis")
+public class RedisShardCoordinator implements ShardCoordinator {
+    private static final String NODES_KEY = "scheduler:nodes";
+    private static final int SEGMENTS = 16;
+    private static final Duration DONE_TTL = Duration.ofDays(1);
+    private static final DateTimeFormatter TICK_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end", Long.class);
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<String> heldLeases = ConcurrentHashMap.newKeySet();
+
+    // 단위: ms
+    @Value("${scheduler.shard.heartbeat-interval}")
+    private long heartbeatInterval;
+
+    @Value("${scheduler.shard.node-ttl}")
+    private long nodeTtl;
+
+    @Value("${scheduler.shard.lease-ttl}")
+    private long leaseTtl;
+
+    @Value("${scheduler.shard.poll-interval}")
+    private long pollInterval;
+
+    @Value("${scheduler.shard.max-wait}")
+    private long maxWait;
+
+    private ScheduledExecutorService heartbeatExecutor;
+    private ScheduledExecutorService takeoverExecutor;
+
+    @PostConstruct
+    public void init() {
+        log.info("스케줄러 샤드 노드 등록: {}", nodeId);
+        heartbeat();
+        heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("shard-heartbeat-"));
+        heartbeatExecutor.scheduleWithFixedDelay(this::heartbeat, heartbeatInterval, heartbeatInterval, TimeUnit.MILLISECONDS);
+        takeoverExecutor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("shard-takeover-"));
+    }
+
+    @PreDestroy
+    public void leave() {
+        takeoverExecutor.shutdownNow();
+        heartbeatExecutor.shutdownNow();
+        stringRedisTemplate.opsForZSet().remove(NODES_KEY, nodeId);
+    }
+
+    private void heartbeat() {
+        try {
+            long now = System.currentTimeMillis();
+            stringRedisTemplate.opsForZSet().add(NODES_KEY, nodeId, now);
+            stringRedisTemplate.opsForZSet().removeRangeByScore(NODES_KEY, 0, now - nodeTtl);
+            for (String lease : heldLeases) {
+                stringRedisTemplate.execute(RENEW_SCRIPT, List.of(lease), nodeId, String.valueOf(leaseTtl));
+            }
+        } catch (RuntimeException e) {
+            // 예외가 나가면 다음 heartbeat 예약이 멈추므로 여기서 처리
+            log.warn("스케줄러 heartbeat 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void runShards(String job, LocalDateTime tick, Function<ShardRange, CompletableFuture<Void>> work) {
+        String prefix = "scheduler:shard:" + job + ":" + tick.format(TICK_FORMAT) + ":";
+
+        List<String> nodes = liveNodes();
+        int index = Math.max(0, nodes.indexOf(nodeId));
+        int size = Math.max(1, nodes.size());
+        log.info(job + " 샤드 실행: 노드 " + (index + 1) + "/" + size);
+
+        // 내 구간 먼저 실행
+        for (int segment = index * SEGMENTS / size; segment < (index + 1) * SEGMENTS / size; segment++) {
+            tryRun(prefix, segment, work);
+        }
+
+        // 남은 구간 인계: 호출한 스레드는 바로 돌려주고, 전용 스레드에서 pollInterval 마다 확인
+        scheduleTakeover(job, prefix, work, System.currentTimeMillis() + maxWait);
+    }
+
+    // 다른 노드가 끝낼 때까지 기다리다가 lease 가 풀린 구간을 이어받음
+    private void scheduleTakeover(String job, String prefix, Function<ShardRange, CompletableFuture<Void>> work, long deadline) {
+        takeoverExecutor.schedule(() -> {
+            try {
+                List<Integer> remaining = remainingSegments(prefix);
+                if (remaining.isEmpty()) return;
+                if (System.currentTimeMillis() > deadline) {
+                    log.warn(job + " 미완료 구간: {}", remaining);
+                    return;
+                }
+                for (int segment : remaining) {
+                    tryRun(prefix, segment, work);
+                }
+            } catch (RuntimeException e) {
+                log.error(job + " 구간 인계 확인 실패: {}", e.getMessage());
+            }
+            scheduleTakeover(job, prefix, work, deadline);
+        }, pollInterval, TimeUnit.MILLISECONDS);
+    }
+
+    private void tryRun(String prefix, int segment, Function<ShardRange, CompletableFuture<Void>> work) {
+        String lease = prefix + segment + ":lease";
+        String done = prefix + segment + ":done";
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(done))) return;
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(lease, nodeId, Duration.ofMillis(leaseTtl)))) return;
+
+        heldLeases.add(lease);
+        CompletableFuture<Void> future;
+        try {
+            // lease 를 잡는 사이 다른 노드가 끝냈을 수 있음
+            future = Boolean.TRUE.equals(stringRedisTemplate.hasKey(done))
+                    ? CompletableFuture.completedFuture(null)
+                    : work.apply(range(segment)).thenRun(() -> stringRedisTemplate.opsForValue().set(done, nodeId, DONE_TTL));
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        // 분산 실행 구간은 마지막 버킷이 끝날 때까지 lease 를 유지
+        future.whenComplete((result, t) -> {
+            if (t != null) log.error(prefix + segment + " 구간 실행 실패: {}", t.getMessage());
+            heldLeases.remove(lease);
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(lease), nodeId);
+        });
+    }
+
+    private List<Integer> remainingSegments(String prefix) {
+        List<Integer> remaining = new ArrayList<>();
+        for (int segment = 0; segment < SEGMENTS; segment++) {
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(prefix + segment + ":done"))) remaining.add(segment);
+        }
+        return remaining;
+    }
+
+    private List<String> liveNodes() {
+        long now = System.currentTimeMillis();
+        Set<String> nodes = stringRedisTemplate.opsForZSet().rangeByScore(NODES_KEY, now - nodeTtl, Double.MAX_VALUE);
+        if (nodes == null) return List.of(nodeId);
+        return nodes.stream().sorted().toList();
+    }
+
+    private static ShardRange range(int segment) {
+        int bucketsPerSegment = ShardRange.BUCKETS / SEGMENTS;
+        return new ShardRange(segment * bucketsPerSegment, (segment + 1) * bucketsPerSegment - 1);
+    }
+}
@@ -0,0 +1,13 @@
+package com.senabo.common.schedule;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+// 여러 인스턴스가 같은 스케줄을 실행할 때 회원 구간을 나눠 맡도록 조정
+// 같은 job, tick 에 대해 각 구간은 한 인스턴스에서 한 번만 실행
+// work 가 돌려준 future 가 끝날 때까지 그 구간을 실행 중으로 봄 (분산 실행 job 은 버킷 예약 후 바로 반환)
+public interface ShardCoordinator {
+
+    void runShards(String job, LocalDateTime tick, Function<ShardRange, CompletableFuture<Void>> work);
+}
@@ -0,0 +1,11 @@
+package com.senabo.common.schedule;
+
+// 회원 id 를 BUCKETS 개의 버킷(id % BUCKETS)으로 나눈 뒤 연속된 버킷 구간 [from, to]
+public record ShardRange(int from, int to) {
+    public static final int BUCKETS = 64;
+    public static final ShardRange ALL = new ShardRange(0, BUCKETS - 1);
+
+    public boolean isAll() {
+        return from == 0 && to == BUCKETS - 1;
+    }
+}
@@ -0,0 +1,96 @@
+package com.senabo.common.schedule;
+
+import com.senabo.config.firebase.FCMMessage;
+import com.senabo.domain.emergency.entity.Emergency;
+import com.senabo.domain.emergency.entity.EmergencyPlan;
+import com.senabo.domain.emergency.entity.EmergencyPlanBit;
+import com.senabo.domain.emergency.entity.EmergencyType;
+import com.senabo.domain.emergency.service.EmergencyService;
+import com.senabo.domain.feed.entity.Feed;
+import com.senabo.domain.feed.entity.FeedSchedule;
+import com.senabo.domain.feed.service.FeedService;
+import com.senabo.domain.member.dto.MemberTick;
+import com.senabo.domain.stress.service.StressLedger;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// 청크 하나에 대한 틱 상태
+// 공유 데이터는 처음 필요할 때 청크 단위로 한 번만 조회하고, 쓰기는 모아 두었다가 엔진이 한 번에 반영
+@Getter
+public class TickContext {
+    private final LocalDateTime tickTime;
+    private final List<MemberTick> members;
+    private final StressLedger ledger = new StressLedger();
+    private final List<Emergency> emergencies = new ArrayList<>();
+    private final List<FCMMessage> messages = new ArrayList<>();
+
+    private final FeedService feedService;
+    private final EmergencyService emergencyService;
+
+    private Map<Long, Feed> latestFeeds;
+    private Map<Long, FeedSchedule> feedSchedules;
+    private Map<Long, EmergencyPlan> emergencyPlans;
+
+    public TickContext(LocalDateTime tickTime, List<MemberTick> members, FeedService feedService, EmergencyService emergencyService) {
+        this.tickTime = tickTime;
+        this.members = members;
+        this.feedService = feedService;
+        this.emergencyService = emergencyService;
+    }
+
+    public Feed latestFeed(Long memberId) {
+        if (latestFeeds == null) {
+            latestFeeds = feedService.findLatestDataMap(memberIds());
+        }
+        return latestFeeds.get(memberId);
+    }
+
+    public FeedSchedule feedSchedule(Long memberId) {
+        if (feedSchedules == null) {
+            feedSchedules = feedService.findScheduleMap(memberIds());
+        }
+        return feedSchedules.get(memberId);
+    }
+
+    // 주간 계획에서 이번 틱 슬롯에 해당 비트가 있는지
+    public boolean emergencyPlanned(Long memberId, EmergencyPlanBit bit) {
+        EmergencyPlan plan = emergencyPlanMap().get(memberId);
+        return plan != null && plan.has(bit, tickTime);
+    }
+
+    // 이번 틱 슬롯에 계획된 돌발상황 타입 (없으면 null)
+    public EmergencyType plannedEmergency(Long memberId, EmergencyType... types) {
+        for (EmergencyType type : types) {
+            if (emergencyPlanned(memberId, EmergencyPlanBit.of(type))) return type;
+        }
+        return null;
+    }
+
+    public Collection<EmergencyPlan> emergencyPlans() {
+        return emergencyPlanMap().values();
+    }
+
+    public boolean emergencyPlansLoaded() {
+        return emergencyPlans != null;
+    }
+
+    private Map<Long, EmergencyPlan> emergencyPlanMap() {
+        if (emergencyPlans == null) {
+            emergencyPlans = emergencyService.getEmergencyPlanMap(memberIds());
+        }
+        return emergencyPlans;
+    }
+
+    public void addEmergency(Emergency emergency) {
+        emergencies.add(emergency);
+    }
+
+    private List<Long> memberIds() {
+        return members.stream().map(MemberTick::id).toList();
+    }
+}
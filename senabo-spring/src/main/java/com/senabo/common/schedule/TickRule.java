@@ -0,0 +1,30 @@
+package com.senabo.common.schedule;
+
+import com.senabo.config.firebase.FCMMessage;
+import com.senabo.domain.member.dto.MemberTick;
+
+import java.time.LocalDateTime;
+
+// 매시 틱 엔진에 꽂히는 규칙
+// supports 로 이번 틱에 실행할지, accepts 로 대상 회원인지 정하고
+// apply 는 회원 한 명에 대해 변화를 context 에 기록
+public interface TickRule {
+
+    boolean supports(LocalDateTime tickTime);
+
+    default boolean accepts(MemberTick member) {
+        return true;
+    }
+
+    // true 면 배식 스케줄(FeedSchedule) 또는 돌발상황 계획(EmergencyPlan)의 due 가 지난 회원에게만 적용되는 규칙
+    default boolean dueOnly() {
+        return false;
+    }
+
+    // true 면 돌발상황 계획(EmergencyPlan)을 읽는 규칙, 이번 틱에 돌았으면 계획을 다음 슬롯으로 옮김
+    default boolean usesEmergencyPlan() {
+        return false;
+    }
+
+    FCMMessage apply(MemberTick member, TickContext context);
+}
@@ -0,0 +1,61 @@
+package com.senabo.config.firebase;
+
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+// FCM HTTP v1 용 OAuth 액세스 토큰 (서비스 계정 키는 처음 한 번만 읽음)
+// 만료 refreshMargin 전까지는 캐시한 토큰을 그대로 쓰고, 갱신은 한 스레드만
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "fcm.sender", havingValue = "http")
+public class FCMAccessTokenProvider {
+    private static final List<String> SCOPES = List.of("https://www.googleapis.com/auth/firebase.messaging");
+
+    @Value("${fcm.service-account-file}")
+    private String serviceAccountFilePath;
+
+    // 단위: ms
+    @Value("${fcm.http.token-refresh-margin}")
+    private long refreshMargin;
+
+    private GoogleCredentials credentials;
+    private volatile AccessToken accessToken;
+
+    public String getToken() {
+        AccessToken token = accessToken;
+        if (isFresh(token)) return token.getTokenValue();
+        return refresh();
+    }
+
+    private synchronized String refresh() {
+        if (isFresh(accessToken)) return accessToken.getTokenValue();
+        try {
+            if (credentials == null) {
+                try (FileInputStream in = new FileInputStream(serviceAccountFilePath)) {
+                    credentials = GoogleCredentials.fromStream(in).createScoped(SCOPES);
+                }
+            }
+            accessToken = credentials.refreshAccessToken();
+            log.info("FCM 액세스 토큰 갱신: 만료 " + accessToken.getExpirationTime().toInstant());
+            return accessToken.getTokenValue();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean isFresh(AccessToken token) {
+        return token != null && token.getExpirationTime() != null
+                && Instant.now().plus(Duration.ofMillis(refreshMargin)).isBefore(token.getExpirationTime().toInstant());
+    }
+}
@@ -0,0 +1,240 @@
+package com.senabo.config.firebase;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 동시에 전송 중인 청크 수를 응답에 맞춰 조절 (AIMD)
+// 정상 응답이면 limit 을 1/limit 씩 늘리고 (최대 max, 설정한 쿼터 상한)
+// 429/503(QUOTA_EXCEEDED, UNAVAILABLE)이나 청크 전체 실패면 backoffRatio 배로, 지연이 기준의 latencyTolerance 배를 넘으면 0.9 배로 줄임
+// 기준 지연은 가장 빠른 응답을 따라가되 조금씩 올라가서 FCM 쪽 변화도 반영
+// 지연은 청크 크기(1~500건)에 따라 달라서 기준도 청크 크기 구간(2의 거듭제곱)마다 따로 둠
+// 자리는 우선순위(FCMPriority)별로 나눠 씀
+// - 우선순위마다 limit * share 개까지만 사용 (대량 알림이 한도를 다 차지하지 않도록)
+// - 자리가 나면 높은 우선순위 대기부터, 낮은 우선순위가 starvationTimeout 넘게 기다렸으면 순서를 무시하고 받음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FCMConcurrencyLimiter {
+    private static final Set<MessagingErrorCode> OVERLOAD_ERRORS = Set.of(
+            MessagingErrorCode.QUOTA_EXCEEDED,
+            MessagingErrorCode.UNAVAILABLE
+    );
+    private static final double LATENCY_BACKOFF_RATIO = 0.9;
+    private static final double BASELINE_DRIFT = 0.01;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${fcm.dispatch.limiter.min}")
+    private int min;
+
+    @Value("${fcm.dispatch.limiter.max}")
+    private int max;
+
+    @Value("${fcm.dispatch.limiter.initial}")
+    private int initial;
+
+    @Value("${fcm.dispatch.limiter.backoff-ratio}")
+    private double backoffRatio;
+
+    @Value("${fcm.dispatch.limiter.latency-tolerance}")
+    private double latencyTolerance;
+
+    @Value("${fcm.dispatch.lanes.high.share}")
+    private double highShare;
+
+    @Value("${fcm.dispatch.lanes.normal.share}")
+    private double normalShare;
+
+    @Value("${fcm.dispatch.lanes.low.share}")
+    private double lowShare;
+
+    // 단위: ms
+    @Value("${fcm.dispatch.lanes.starvation-timeout}")
+    private long starvationTimeout;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final Map<FCMPriority, Lane> lanes = new EnumMap<>(FCMPriority.class);
+    private double limit;
+    private int inFlight;
+    // 청크 크기 구간 -> 기준 지연 (단위: ns)
+    private final Map<Integer, Double> baselines = new HashMap<>();
+
+    private static class Lane {
+        private double share;
+        private int inFlight;
+        // 대기 시작 시각 (단위: ns), 먼저 온 순서
+        private final Deque<Long> waiting = new ArrayDeque<>();
+        private Timer wait;
+    }
+
+    @PostConstruct
+    public void init() {
+        limit = Math.max(min, Math.min(initial, max));
+        Map<FCMPriority, Double> shares = Map.of(
+                FCMPriority.HIGH, highShare,
+                FCMPriority.NORMAL, normalShare,
+                FCMPriority.LOW, lowShare
+        );
+        for (FCMPriority priority : FCMPriority.values()) {
+            Lane lane = new Lane();
+            lane.share = shares.get(priority);
+            lane.wait = Timer.builder("fcm.dispatch.wait")
+                    .tag("lane", priority.name())
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry);
+            lanes.put(priority, lane);
+            Gauge.builder("fcm.dispatch.lane.in-flight", this, limiter -> limiter.laneInFlight(priority))
+                    .tag("lane", priority.name()).register(meterRegistry);
+            Gauge.builder("fcm.dispatch.lane.queue", this, limiter -> limiter.laneWaiting(priority))
+                    .tag("lane", priority.name()).register(meterRegistry);
+        }
+        Gauge.builder("fcm.dispatch.limit", this, FCMConcurrencyLimiter::getLimit).register(meterRegistry);
+        Gauge.builder("fcm.dispatch.in-flight", this, FCMConcurrencyLimiter::getInFlight).register(meterRegistry);
+        Gauge.builder("fcm.dispatch.queue", this, FCMConcurrencyLimiter::getWaiting).register(meterRegistry);
+    }
+
+    // 자리가 날 때까지 대기
+    public void acquire(FCMPriority priority) {
+        Lane lane = lanes.get(priority);
+        Long start = System.nanoTime();
+        boolean interrupted = false;
+        lock.lock();
+        try {
+            lane.waiting.addLast(start);
+            while (!canAcquire(priority, lane)) {
+                // 기다리는 동안 starvationTimeout 이 지나면 다시 확인
+                try {
+                    available.await(starvationTimeout, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            lane.waiting.remove(start);
+            lane.inFlight++;
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+        lane.wait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    // results 가 null 이면 청크 전체 실패
+    public void release(FCMPriority priority, int chunkSize, long latencyNanos, List<FCMResult> results) {
+        boolean overloaded = results == null || results.stream()
+                .anyMatch(result -> result.errorCode() != null && OVERLOAD_ERRORS.contains(result.errorCode()));
+        lock.lock();
+        try {
+            lanes.get(priority).inFlight--;
+            inFlight--;
+            double previous = limit;
+            int sizeClass = sizeClass(chunkSize);
+            double baseline = baselines.getOrDefault(sizeClass, 0.0);
+            if (overloaded) {
+                limit = Math.max(min, limit * backoffRatio);
+            } else if (baseline > 0 && latencyNanos > baseline * latencyTolerance) {
+                limit = Math.max(min, limit * LATENCY_BACKOFF_RATIO);
+            } else {
+                limit = Math.min(max, limit + 1 / limit);
+            }
+            if (!overloaded) {
+                baselines.put(sizeClass, baseline == 0 ? latencyNanos : Math.min(latencyNanos, baseline + (latencyNanos - baseline) * BASELINE_DRIFT));
+            }
+            if ((int) limit != (int) previous) {
+                log.info("FCM 동시 전송 한도 변경: " + (int) previous + " -> " + (int) limit
+                        + " (지연 " + TimeUnit.NANOSECONDS.toMillis(latencyNanos) + "ms)");
+            }
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 1, 2~3, 4~7, ... 256~511
+    private static int sizeClass(int chunkSize) {
+        return 32 - Integer.numberOfLeadingZeros(Math.max(1, chunkSize));
+    }
+
+    private boolean canAcquire(FCMPriority priority, Lane lane) {
+        if (inFlight >= (int) limit) return false;
+        if (lane.inFlight >= Math.max(1, (int) (limit * lane.share))) return false;
+        return !higherWaiting(priority) || starved(lane);
+    }
+
+    private boolean higherWaiting(FCMPriority priority) {
+        for (FCMPriority higher : FCMPriority.values()) {
+            if (higher == priority) return false;
+            if (!lanes.get(higher).waiting.isEmpty()) return true;
+        }
+        return false;
+    }
+
+    private boolean starved(Lane lane) {
+        Long oldest = lane.waiting.peekFirst();
+        return oldest != null && System.nanoTime() - oldest >= TimeUnit.MILLISECONDS.toNanos(starvationTimeout);
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getWaiting() {
+        lock.lock();
+        try {
+            return lanes.values().stream().mapToInt(lane -> lane.waiting.size()).sum();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int laneInFlight(FCMPriority priority) {
+        lock.lock();
+        try {
+            return lanes.get(priority).inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int laneWaiting(FCMPriority priority) {
+        lock.lock();
+        try {
+            return lanes.get(priority).waiting.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
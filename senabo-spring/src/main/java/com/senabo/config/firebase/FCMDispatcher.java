@@ -0,0 +1,133 @@
+package com.senabo.config.firebase;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+// FCM 메시지를 chunkSize(최대 500) 단위로 묶어 PushSender(fcm.sender)로 전송
+// 메시지는 우선순위(FCMPriority)별로 나눠 청크를 만들고, 높은 우선순위 청크부터 보냄
+// 전송 중인 청크가 FCMConcurrencyLimiter 의 한도만큼이면 다음 청크를 넘기는 쪽(스케줄러 스레드)이 대기
+// 트랜잭션 밖에서 호출해 네트워크 대기 중 DB 커넥션을 잡지 않음
+// 무효 토큰(UNREGISTERED 등)은 청크마다 InvalidTokenEvent 로 알려 회원에서 제거
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FCMDispatcher {
+    private static final int MAX_CHUNK_SIZE = 500;
+
+    private final PushSender pushSender;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FCMConcurrencyLimiter limiter;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${fcm.dispatch.chunk-size}")
+    private int chunkSize;
+
+    // 우선순위별 dispatch 호출부터 청크 응답까지 (한도 대기 포함)
+    private final Map<FCMPriority, Timer> latencies = new EnumMap<>(FCMPriority.class);
+
+    @PostConstruct
+    public void init() {
+        chunkSize = Math.min(chunkSize, MAX_CHUNK_SIZE);
+        for (FCMPriority priority : FCMPriority.values()) {
+            latencies.put(priority, Timer.builder("fcm.dispatch.latency")
+                    .tag("lane", priority.name())
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry));
+        }
+    }
+
+    // 모든 청크가 끝나면 메시지 순서대로 결과를 돌려줌
+    public CompletableFuture<List<FCMResult>> dispatch(List<FCMMessage> messages) {
+        long queued = System.nanoTime();
+        Map<FCMPriority, List<Integer>> lanes = new EnumMap<>(FCMPriority.class);
+        for (int i = 0; i < messages.size(); i++) {
+            lanes.computeIfAbsent(messages.get(i).getPriority(), priority -> new ArrayList<>()).add(i);
+        }
+
+        List<List<Integer>> chunkIndexes = new ArrayList<>();
+        List<CompletableFuture<List<FCMResult>>> chunks = new ArrayList<>();
+        lanes.forEach((priority, indexes) -> {
+            for (int from = 0; from < indexes.size(); from += chunkSize) {
+                List<Integer> chunk = indexes.subList(from, Math.min(from + chunkSize, indexes.size()));
+                chunkIndexes.add(chunk);
+                chunks.add(send(priority, chunk.stream().map(messages::get).toList(), queued));
+            }
+        });
+
+        return CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new))
+                .thenApply(done -> {
+                    FCMResult[] results = new FCMResult[messages.size()];
+                    for (int i = 0; i < chunks.size(); i++) {
+                        List<FCMResult> chunkResults = chunks.get(i).join();
+                        for (int j = 0; j < chunkResults.size(); j++) {
+                            results[chunkIndexes.get(i).get(j)] = chunkResults.get(j);
+                        }
+                    }
+                    long success = Arrays.stream(results).filter(FCMResult::isSuccess).count();
+                    log.info("FCM 전송: 성공 " + success + "건, 실패 " + (results.length - success) + "건");
+                    return Arrays.asList(results);
+                });
+    }
+
+    private CompletableFuture<List<FCMResult>> send(FCMPriority priority, List<FCMMessage> chunk, long queued) {
+        limiter.acquire(priority);
+        long start = System.nanoTime();
+        CompletableFuture<List<FCMResult>> future;
+        try {
+            future = pushSender.send(chunk);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        return future
+                .handle((results, t) -> {
+                    long now = System.nanoTime();
+                    limiter.release(priority, chunk.size(), now - start, t == null ? results : null);
+                    latencies.get(priority).record(now - queued, TimeUnit.NANOSECONDS);
+                    if (t == null) return results;
+                    log.error("FCM 청크 전송 실패: {}", t.getMessage());
+                    return failAll(chunk);
+                })
+                .thenApply(this::inspect);
+    }
+
+    private List<FCMResult> inspect(List<FCMResult> results) {
+        results.stream()
+                .filter(result -> !result.isSuccess() && result.errorCode() != null)
+                .forEach(result -> log.warn("FCM 전송 실패: " + result.errorCode()));
+
+        List<String> invalidTokens = results.stream()
+                .filter(FCMResult::isInvalidToken)
+                .map(FCMResult::token)
+                .distinct()
+                .toList();
+        if (!invalidTokens.isEmpty()) publishInvalidTokens(invalidTokens);
+        return results;
+    }
+
+    private void publishInvalidTokens(List<String> tokens) {
+        try {
+            eventPublisher.publishEvent(new InvalidTokenEvent(tokens));
+        } catch (RuntimeException e) {
+            log.error("무효 FCM 토큰 제거 실패: {}", e.getMessage());
+        }
+    }
+
+    private List<FCMResult> failAll(List<FCMMessage> chunk) {
+        return chunk.stream().map(message -> FCMResult.failure(message, null)).toList();
+    }
+}
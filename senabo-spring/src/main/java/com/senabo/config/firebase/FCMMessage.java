@@ -1,5 +1,6 @@
 package com.senabo.config.firebase;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -11,6 +12,15 @@ public class FCMMessage {
     private boolean validateOnly;
     private Message message;
 
+    // 전송 본문에는 포함하지 않음 (묶음 전송 우선순위용)
+    @JsonIgnore
+    private FCMType type;
+
+    @JsonIgnore
+    public FCMPriority getPriority() {
+        return FCMType.priorityOf(type);
+    }
+
     @Builder
     @AllArgsConstructor
     @Getter
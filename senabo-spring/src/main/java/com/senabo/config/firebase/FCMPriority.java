@@ -0,0 +1,8 @@
+package com.senabo.config.firebase;
+
+// 전송 우선순위 (선언 순서), 우선순위마다 outbox 를 따로 꺼내고 동시 전송 한도를 나눠 씀
+public enum FCMPriority {
+    HIGH,
+    NORMAL,
+    LOW
+}
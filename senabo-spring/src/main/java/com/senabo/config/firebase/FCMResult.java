@@ -0,0 +1,51 @@
+package com.senabo.config.firebase;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+
+import java.util.List;
+import java.util.Set;
+
+// 메시지 한 건의 전송 결과 (성공이면 messageId, 실패면 errorCode - 알 수 없으면 null)
+// errorDetail 은 FCM 이 준 오류 설명 (INVALID_ARGUMENT 가 토큰 때문인지 구분)
+public record FCMResult(
+        FCMMessage message,
+        String messageId,
+        MessagingErrorCode errorCode,
+        String errorDetail
+) {
+    // 다시 보내도 성공할 수 없는 토큰 오류
+    private static final Set<MessagingErrorCode> INVALID_TOKEN_ERRORS = Set.of(
+            MessagingErrorCode.UNREGISTERED,
+            MessagingErrorCode.SENDER_ID_MISMATCH
+    );
+    // INVALID_ARGUMENT 는 메시지 내용 오류일 수도 있어서 설명이 등록 토큰을 가리킬 때만 토큰 오류
+    private static final List<String> INVALID_TOKEN_DETAILS = List.of("registration token", "message.token");
+
+    public static FCMResult success(FCMMessage message, String messageId) {
+        return new FCMResult(message, messageId, null, null);
+    }
+
+    public static FCMResult failure(FCMMessage message, MessagingErrorCode errorCode) {
+        return failure(message, errorCode, null);
+    }
+
+    public static FCMResult failure(FCMMessage message, MessagingErrorCode errorCode, String errorDetail) {
+        return new FCMResult(message, null, errorCode, errorDetail);
+    }
+
+    public boolean isSuccess() {
+        return messageId != null;
+    }
+
+    public boolean isInvalidToken() {
+        if (errorCode == MessagingErrorCode.INVALID_ARGUMENT) {
+            String detail = errorDetail == null ? "" : errorDetail.toLowerCase();
+            return INVALID_TOKEN_DETAILS.stream().anyMatch(detail::contains);
+        }
+        return errorCode != null && INVALID_TOKEN_ERRORS.contains(errorCode);
+    }
+
+    public String token() {
+        return message.getMessage().getToken();
+    }
+}
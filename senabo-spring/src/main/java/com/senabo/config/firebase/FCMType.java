@@ -1,6 +1,23 @@
 package com.senabo.config.firebase;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 알림 종류, 선언 순서가 우선순위 (같은 기기로 묶어 보낼 때 앞쪽 알림을 대표로 보냄)
+@Getter
+@RequiredArgsConstructor
 public enum FCMType {
-    WALK,
-    
+    EMERGENCY(FCMPriority.HIGH),
+    FEED(FCMPriority.NORMAL),
+    POOP(FCMPriority.NORMAL),
+    WALK(FCMPriority.LOW),
+    REPORT(FCMPriority.LOW),
+    TEST(FCMPriority.LOW);
+
+    private final FCMPriority priority;
+
+    // 종류가 없는 알림(이전에 저장된 outbox 행 등)은 LOW
+    public static FCMPriority priorityOf(FCMType type) {
+        return type == null ? FCMPriority.LOW : type.getPriority();
+    }
 }
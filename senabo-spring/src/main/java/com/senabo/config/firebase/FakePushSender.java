@@ -0,0 +1,80 @@
+package com.senabo.config.firebase;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 부하 테스트/로컬 실행용 인프로세스 가짜 전송 (Google 자격 증명 불필요)
+// latency 후에 응답, errorRate 확률로 UNAVAILABLE, 초당 quota 를 넘으면 QUOTA_EXCEEDED
+// invalid 로 시작하는 토큰은 UNREGISTERED
+@Component
+@ConditionalOnProperty(name = "fcm.sender", havingValue = "fake")
+public class FakePushSender implements PushSender {
+    private static final String INVALID_TOKEN_PREFIX = "invalid";
+
+    // 단위: ms
+    @Value("${fcm.fake.latency}")
+    private long latency;
+
+    @Value("${fcm.fake.error-rate}")
+    private double errorRate;
+
+    // 초당 최대 전송 수, 0 이면 제한 없음
+    @Value("${fcm.fake.quota}")
+    private int quota;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private ScheduledExecutorService scheduler;
+    private long quotaSecond;
+    private int quotaUsed;
+
+    @PostConstruct
+    public void init() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    @Override
+    public CompletableFuture<List<FCMResult>> send(List<FCMMessage> chunk) {
+        List<FCMResult> results = chunk.stream().map(this::result).toList();
+        CompletableFuture<List<FCMResult>> future = new CompletableFuture<>();
+        scheduler.schedule(() -> future.complete(results), latency, TimeUnit.MILLISECONDS);
+        return future;
+    }
+
+    private FCMResult result(FCMMessage message) {
+        if (message.getMessage().getToken().startsWith(INVALID_TOKEN_PREFIX)) {
+            return FCMResult.failure(message, MessagingErrorCode.UNREGISTERED);
+        }
+        if (!acquireQuota()) return FCMResult.failure(message, MessagingErrorCode.QUOTA_EXCEEDED);
+        if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+            return FCMResult.failure(message, MessagingErrorCode.UNAVAILABLE);
+        }
+        return FCMResult.success(message, "projects/fake/messages/" + sequence.incrementAndGet());
+    }
+
+    private synchronized boolean acquireQuota() {
+        if (quota <= 0) return true;
+        long second = System.currentTimeMillis() / 1000;
+        if (second != quotaSecond) {
+            quotaSecond = second;
+            quotaUsed = 0;
+        }
+        return ++quotaUsed <= quota;
+    }
+}
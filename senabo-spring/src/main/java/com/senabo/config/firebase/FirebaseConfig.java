@@ -7,13 +7,16 @@ import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.messaging.FirebaseMessaging;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import java.io.FileInputStream;
 import java.io.IOException;
 
+// fcm.sender 가 firebase 일 때만 서비스 계정 키를 읽음 (fake/http 는 자격 증명 불필요)
 @Slf4j
 @Configuration
+@ConditionalOnProperty(name = "fcm.sender", havingValue = "firebase", matchIfMissing = true)
 public class FirebaseConfig {
     @Value("${fcm.service-account-file}")
     private String serviceAccountFilePath;
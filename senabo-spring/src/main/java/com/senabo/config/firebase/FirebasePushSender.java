@@ -0,0 +1,65 @@
+package com.senabo.config.firebase;
+
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// Firebase Admin SDK 의 sendEachAsync 로 전송
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "fcm.sender", havingValue = "firebase", matchIfMissing = true)
+public class FirebasePushSender implements PushSender {
+    private final FirebaseMessaging firebaseMessaging;
+
+    @Override
+    public CompletableFuture<List<FCMResult>> send(List<FCMMessage> chunk) {
+        CompletableFuture<List<FCMResult>> result = new CompletableFuture<>();
+        ApiFutures.addCallback(firebaseMessaging.sendEachAsync(chunk.stream().map(this::toMessage).toList()),
+                new ApiFutureCallback<>() {
+                    @Override
+                    public void onSuccess(BatchResponse response) {
+                        result.complete(results(chunk, response));
+                    }
+
+                    @Override
+                    public void onFailure(Throwable t) {
+                        result.completeExceptionally(t);
+                    }
+                }, Runnable::run);
+        return result;
+    }
+
+    private List<FCMResult> results(List<FCMMessage> chunk, BatchResponse response) {
+        List<SendResponse> responses = response.getResponses();
+        List<FCMResult> results = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            SendResponse sendResponse = responses.get(i);
+            results.add(sendResponse.isSuccessful()
+                    ? FCMResult.success(chunk.get(i), sendResponse.getMessageId())
+                    : FCMResult.failure(chunk.get(i), sendResponse.getException().getMessagingErrorCode(),
+                            sendResponse.getException().getMessage()));
+        }
+        return results;
+    }
+
+    private Message toMessage(FCMMessage message) {
+        return Message.builder()
+                .setToken(message.getMessage().getToken())
+                .setNotification(Notification.builder()
+                        .setTitle(message.getMessage().getNotification().getTitle())
+                        .setBody(message.getMessage().getNotification().getBody())
+                        .build())
+                .build();
+    }
+}
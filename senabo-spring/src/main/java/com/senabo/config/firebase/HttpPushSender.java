@@ -0,0 +1,178 @@
+package com.senabo.config.firebase;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.firebase.messaging.MessagingErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+// FCM HTTP v1 형식(messages:send)으로 메시지마다 POST
+// 클라이언트 하나의 커넥션 풀을 공유하고, https 에서는 HTTP/2 로 한 연결에 요청을 다중화
+// 액세스 토큰은 FCMAccessTokenProvider 가 캐시, 직렬화는 FCMMessage 전용 ObjectWriter 재사용
+// fcm.http.url 을 로컬 스텁(테스트 소스의 FCMStubServer)으로, fcm.http.auth 를 false 로 두면 자격 증명 없이 부하 테스트 가능
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "fcm.sender", havingValue = "http")
+public class HttpPushSender implements PushSender {
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter messageWriter;
+    private final ObjectProvider<FCMAccessTokenProvider> accessTokenProvider;
+    private OkHttpClient client;
+
+    @Value("${fcm.http.url}")
+    private String url;
+
+    @Value("${fcm.http.auth}")
+    private boolean auth;
+
+    // 동시에 보내는 요청 수 (HTTP/2 에서는 한 연결의 스트림 수)
+    @Value("${fcm.http.max-requests}")
+    private int maxRequests;
+
+    @Value("${fcm.http.max-idle-connections}")
+    private int maxIdleConnections;
+
+    // 단위: ms
+    @Value("${fcm.http.keep-alive}")
+    private long keepAlive;
+
+    // 단위: ms
+    @Value("${fcm.http.timeout}")
+    private long timeout;
+
+    public HttpPushSender(ObjectMapper objectMapper, ObjectProvider<FCMAccessTokenProvider> accessTokenProvider) {
+        this.objectMapper = objectMapper;
+        this.messageWriter = objectMapper.writerFor(FCMMessage.class);
+        this.accessTokenProvider = accessTokenProvider;
+    }
+
+    @PostConstruct
+    public void init() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequests);
+        client = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(maxIdleConnections, keepAlive, TimeUnit.MILLISECONDS))
+                .protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .connectTimeout(timeout, TimeUnit.MILLISECONDS)
+                .readTimeout(timeout, TimeUnit.MILLISECONDS)
+                .writeTimeout(timeout, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        client.dispatcher().executorService().shutdown();
+        client.connectionPool().evictAll();
+    }
+
+    @Override
+    public CompletableFuture<List<FCMResult>> send(List<FCMMessage> chunk) {
+        // 청크당 한 번만 확인 (캐시된 토큰이면 바로 반환)
+        String authorization = auth ? "Bearer " + accessTokenProvider.getObject().getToken() : null;
+        List<CompletableFuture<FCMResult>> futures = new ArrayList<>(chunk.size());
+        for (FCMMessage message : chunk) {
+            futures.add(send(message, authorization));
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(done -> futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    private CompletableFuture<FCMResult> send(FCMMessage message, String authorization) {
+        CompletableFuture<FCMResult> future = new CompletableFuture<>();
+        Request request;
+        try {
+            Request.Builder builder = new Request.Builder()
+                    .url(url)
+                    .post(RequestBody.create(messageWriter.writeValueAsBytes(message), JSON));
+            if (authorization != null) builder.header(HttpHeaders.AUTHORIZATION, authorization);
+            request = builder.build();
+        } catch (JsonProcessingException e) {
+            future.complete(FCMResult.failure(message, MessagingErrorCode.INVALID_ARGUMENT));
+            return future;
+        }
+
+        client.newCall(request).enqueue(new Callback() {
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (ResponseBody body = response.body()) {
+                    JsonNode json = objectMapper.readTree(body == null ? "{}" : body.string());
+                    future.complete(response.isSuccessful()
+                            ? FCMResult.success(message, json.path("name").asText())
+                            : FCMResult.failure(message, errorCodeOf(response.code(), json), errorDetailOf(json)));
+                } catch (IOException e) {
+                    future.complete(FCMResult.failure(message, MessagingErrorCode.INTERNAL));
+                }
+            }
+
+            @Override
+            public void onFailure(Call call, IOException e) {
+                log.warn("FCM HTTP 전송 실패: {}", e.getMessage());
+                future.complete(FCMResult.failure(message, MessagingErrorCode.UNAVAILABLE));
+            }
+        });
+        return future;
+    }
+
+    // error.message 와 error.details[].fieldViolations[].field (잘못된 필드, 예: message.token)
+    private String errorDetailOf(JsonNode json) {
+        JsonNode error = json.path("error");
+        StringBuilder detail = new StringBuilder(error.path("message").asText(""));
+        for (JsonNode errorDetail : error.path("details")) {
+            for (JsonNode violation : errorDetail.path("fieldViolations")) {
+                detail.append(' ').append(violation.path("field").asText(""));
+            }
+        }
+        return detail.toString().trim();
+    }
+
+    // error.details[].errorCode 가 있으면 그대로, 없으면 HTTP 상태로 분류
+    private MessagingErrorCode errorCodeOf(int status, JsonNode json) {
+        for (JsonNode detail : json.path("error").path("details")) {
+            String errorCode = detail.path("errorCode").asText(null);
+            if (errorCode == null) continue;
+            try {
+                return MessagingErrorCode.valueOf(errorCode);
+            } catch (IllegalArgumentException ignored) {
+                // 모르는 코드는 HTTP 상태로 분류
+            }
+        }
+        return switch (status) {
+            case 400 -> MessagingErrorCode.INVALID_ARGUMENT;
+            case 401 -> MessagingErrorCode.THIRD_PARTY_AUTH_ERROR;
+            case 403 -> MessagingErrorCode.SENDER_ID_MISMATCH;
+            case 404 -> MessagingErrorCode.UNREGISTERED;
+            case 429 -> MessagingErrorCode.QUOTA_EXCEEDED;
+            case 503 -> MessagingErrorCode.UNAVAILABLE;
+            default -> MessagingErrorCode.INTERNAL;
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package com.senabo.config.firebase;
+
+import java.util.List;
+
+// 전송 결과로 더 이상 쓸 수 없다고 확인된 토큰 (배치 하나 단위)
+public record InvalidTokenEvent(
+        List<String> tokens
+) {
+}
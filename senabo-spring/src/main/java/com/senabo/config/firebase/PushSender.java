@@ -0,0 +1,11 @@
+package com.senabo.config.firebase;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// 푸시 전송 방식 (fcm.sender: firebase | fake | http)
+// 청크 하나를 비동기로 보내고, 메시지 순서대로 결과를 돌려줌
+public interface PushSender {
+
+    CompletableFuture<List<FCMResult>> send(List<FCMMessage> chunk);
+}
@@ -1,20 +1,31 @@
 package com.senabo.config.scheduler;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.SchedulingConfigurer;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 
+// @Scheduled 공용 스레드 수 = max(CPU 수, scheduler.pool-size)
+// 이 풀에는 오래 대기하는 작업을 올리지 않음, 스레드 예산:
+// - 정시 job 5개 (tick, walk-check, walk-send, report, report-fcm): 분산 실행은 버킷 예약만 하고 바로 반환,
+//   분산 없는 job 만 실행 동안 스레드 1개씩, 매시 tick 에 다른 job 하나가 겹침 (0시 walk-check, 1시 report, 8시 report-fcm, 12/20시 walk-send)
+// - outbox drain 3개 (우선순위별) + purge 1개: drain 은 전송이 밀리면 한 batch 동안 스레드를 잡음
+//   purge 는 outbox(4시 30분), JobRun(4시 40분) 시각이 달라 동시에 1개
+// - 샤드 heartbeat/인계 대기(RedisShardCoordinator), 버킷 대기(JobRunner)는 각자 전용 스레드라 포함하지 않음
+// 최대 동시 사용 2(job) + 4(outbox) = 6 에 여유를 둬서 기본 10
 @Slf4j
 @Configuration
 public class SchedulerConfig implements SchedulingConfigurer {
+    @Value("${scheduler.pool-size:0}")
+    private int minPoolSize;
 
     @Override
     public void configureTasks(ScheduledTaskRegistrar scheduledTaskRegistrar){
         ThreadPoolTaskScheduler threadPoolTaskScheduler = new ThreadPoolTaskScheduler();
 
-                int poolSize = Runtime.getRuntime().availableProcessors();
+                int poolSize = Math.max(Runtime.getRuntime().availableProcessors(), minPoolSize);
                 threadPoolTaskScheduler.setPoolSize(poolSize);
                 threadPoolTaskScheduler.setThreadNamePrefix("scheduled-task-pool");
                 threadPoolTaskScheduler.initialize();
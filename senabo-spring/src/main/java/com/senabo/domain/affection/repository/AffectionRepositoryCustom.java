@@ -6,11 +6,13 @@ import com.senabo.domain.member.entity.Member;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface AffectionRepositoryCustom {
     List<Affection> findByMemberId(Member memberId);
     Optional<Affection> findLatestDataByMemberId(Member member);
     List<Affection> findAffectionWeek(Member member, LocalDateTime endTime, LocalDateTime startTime);
+    Map<Long, Integer> findLatestScoreByMemberIds(List<Long> memberIds);
 
 }
@@ -1,13 +1,17 @@
 package com.senabo.domain.affection.repository;
 
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.senabo.domain.affection.entity.QAffection;
 import com.senabo.domain.affection.entity.Affection;
 import com.senabo.domain.member.entity.Member;
 import lombok.RequiredArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 
 import static com.senabo.domain.affection.entity.QAffection.affection;
@@ -44,4 +48,23 @@ public class AffectionRepositoryImpl implements AffectionRepositoryCustom {
                 .orderBy(affection.createTime.desc())
                 .fetch();
     }
+
+    @Override
+    public Map<Long, Integer> findLatestScoreByMemberIds(List<Long> memberIds) {
+        if (memberIds.isEmpty()) return Map.of();
+        QAffection sub = new QAffection("sub");
+        return queryFactory
+                .select(affection.memberId.id, affection.score)
+                .from(affection)
+                .where(affection.id.in(
+                        JPAExpressions
+                                .select(sub.id.max())
+                                .from(sub)
+                                .where(sub.memberId.id.in(memberIds))
+                                .groupBy(sub.memberId.id)
+                ))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(tuple -> tuple.get(affection.memberId.id), tuple -> tuple.get(affection.score)));
+    }
 }
@@ -5,6 +5,7 @@ import com.senabo.common.ActivityType;
 import com.senabo.domain.affection.dto.response.AffectionResponse;
 import com.senabo.domain.affection.entity.Affection;
 import com.senabo.domain.affection.repository.AffectionRepository;
+import com.senabo.domain.member.dto.MemberTick;
 import com.senabo.domain.member.entity.Member;
 import com.senabo.domain.member.service.MemberService;
 import com.senabo.domain.report.entity.Report;
@@ -22,6 +23,7 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
@@ -34,7 +36,16 @@ public class AffectionService {
 
     @Transactional
     public AffectionResponse saveAffection(Member member, ActivityType type, int changeAmount) {
-        int originAffection = member.getAffection();
+        return saveAffection(member, member.getEmail(), member.getAffection(), type, changeAmount);
+    }
+
+    // 스케줄러용: 스냅샷 값으로 저장하고 회원은 프록시로만 참조
+    @Transactional
+    public AffectionResponse saveAffection(MemberTick member, ActivityType type, int changeAmount) {
+        return saveAffection(memberService.getReference(member.id()), member.email(), member.affection(), type, changeAmount);
+    }
+
+    private AffectionResponse saveAffection(Member member, String email, int originAffection, ActivityType type, int changeAmount) {
         int score = originAffection + changeAmount;
         if (score > 100) {
             score = 100;
@@ -45,7 +56,7 @@ public class AffectionService {
         Affection affection = affectionRepository.save(
                 new Affection(member, type, changeAmount, score)
         );
-        memberService.updateAffection(member.getEmail(), score);
+        memberService.updateAffection(email, score);
         try {
             affectionRepository.flush();
         } catch (DataIntegrityViolationException e) {
@@ -88,4 +99,8 @@ public class AffectionService {
         return affection.getScore();
     }
 
+    // 회원별 마지막 애정도 점수, 데이터가 없는 회원은 빠짐
+    public Map<Long, Integer> getLatestScoreMap(List<Long> memberIds) {
+        return affectionRepository.findLatestScoreByMemberIds(memberIds);
+    }
 }
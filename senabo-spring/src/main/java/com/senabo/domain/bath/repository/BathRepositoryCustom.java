@@ -10,4 +10,5 @@ import java.util.List;
 
 public interface BathRepositoryCustom{
     List<Bath> findByMemberId(Member memberId);
+    List<Long> findMemberIdsHavingBath(List<Long> memberIds);
 }
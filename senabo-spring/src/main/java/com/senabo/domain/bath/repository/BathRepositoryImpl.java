@@ -21,4 +21,15 @@ public class BathRepositoryImpl implements BathRepositoryCustom {
                 .orderBy(bath.createTime.desc())
                 .fetch();
     }
+
+    @Override
+    public List<Long> findMemberIdsHavingBath(List<Long> memberIds) {
+        if (memberIds.isEmpty()) return List.of();
+        return queryFactory
+                .select(bath.memberId.id)
+                .distinct()
+                .from(bath)
+                .where(bath.memberId.id.in(memberIds))
+                .fetch();
+    }
 }
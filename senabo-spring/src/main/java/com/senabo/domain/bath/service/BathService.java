@@ -53,4 +53,7 @@ public class BathService {
         }
     }
 
-}
\ No newline at end of file
+    public List<Long> getBathMemberIds(List<Long> memberIds) {
+        return bathRepository.findMemberIdsHavingBath(memberIds);
+    }
+}
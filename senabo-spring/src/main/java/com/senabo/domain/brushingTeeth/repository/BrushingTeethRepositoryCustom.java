@@ -14,4 +14,5 @@ public interface BrushingTeethRepositoryCustom {
     List<BrushingTeeth> findBrushingTeethWeek(Member member, LocalDateTime endTime, LocalDateTime startTime);
     Long countBrushingTeethWeek(Member member, LocalDateTime startTime);
     Long countBrushingTeethToday(Member member);
+    List<Long> findMemberIdsBrushingTeethWeek(List<Long> memberIds, LocalDateTime endTime, LocalDateTime startTime);
 }
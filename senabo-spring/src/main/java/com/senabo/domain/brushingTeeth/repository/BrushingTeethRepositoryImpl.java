@@ -59,4 +59,19 @@ public class BrushingTeethRepositoryImpl implements BrushingTeethRepositoryCusto
                 )
                 .fetchOne();
     }
+
+    @Override
+    public List<Long> findMemberIdsBrushingTeethWeek(List<Long> memberIds, LocalDateTime endTime, LocalDateTime startTime) {
+        if (memberIds.isEmpty()) return List.of();
+        return queryFactory
+                .select(brushingTeeth.memberId.id)
+                .distinct()
+                .from(brushingTeeth)
+                .where(
+                        brushingTeeth.memberId.id.in(memberIds),
+                        brushingTeeth.updateTime.loe(endTime),
+                        brushingTeeth.createTime.goe(startTime)
+                )
+                .fetch();
+    }
 }
@@ -7,6 +7,7 @@ import com.senabo.domain.brushingTeeth.repository.BrushingTeethRepository;
 import com.senabo.domain.member.entity.Member;
 import com.senabo.domain.member.service.MemberService;
 import com.senabo.domain.report.entity.Report;
+import com.senabo.domain.report.service.ReportAccumulatorService;
 import com.senabo.domain.report.service.ReportService;
 import com.senabo.exception.message.ExceptionMessage;
 import com.senabo.exception.model.DataException;
@@ -32,6 +33,7 @@ import java.util.Optional;
 public class BrushingTeethService {
     private final BrushingTeethRepository brushingTeethRepository;
     private final MemberService memberService;
+    private final ReportAccumulatorService reportAccumulatorService;
 
     @Transactional
     public BrushingTeethResponse createBrushingTeeth(String email) {
@@ -43,6 +45,7 @@ public class BrushingTeethService {
         } catch (DataIntegrityViolationException e) {
             throw new UserException(String.valueOf(ExceptionMessage.FAIL_SAVE_DATA));
         }
+        reportAccumulatorService.accumulateBrushingTeeth(member.getId());
         return BrushingTeethResponse.from(brushingTeeth);
     }
 
@@ -65,6 +68,8 @@ public class BrushingTeethService {
         try {
             Member member = memberService.findByEmail(email);
             List<BrushingTeeth> list = brushingTeethRepository.deleteByMemberId(member);
+            brushingTeethRepository.flush();
+            reportAccumulatorService.rebuild(member.getId());
         } catch (DataIntegrityViolationException e) {
             throw new UserException(ExceptionMessage.FAIL_DELETE_DATA);
         }
@@ -95,4 +100,11 @@ public class BrushingTeethService {
             throw new DataException(ExceptionMessage.DATA_NOT_FOUND);
         }
     }
+
+    // getBrushingTeethWeek 와 같은 기간(리포트 시작일부터 7일) 안에 양치한 회원 id
+    public List<Long> getBrushingTeethWeekMemberIds(List<Long> memberIds, LocalDateTime reportCreateTime) {
+        LocalDateTime startTime = reportCreateTime.truncatedTo(ChronoUnit.DAYS);
+        LocalDateTime endTime = startTime.plusDays(7);
+        return brushingTeethRepository.findMemberIdsBrushingTeethWeek(memberIds, endTime, startTime);
+    }
 }
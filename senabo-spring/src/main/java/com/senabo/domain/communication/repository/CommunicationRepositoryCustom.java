@@ -5,6 +5,7 @@ import com.senabo.domain.member.entity.Member;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 
 
@@ -13,4 +14,5 @@ public interface CommunicationRepositoryCustom {
 
     List<Communication> findCommunicationWeek(Member member, LocalDateTime endTime, LocalDateTime startTime);
     Long countCommunicationWeek(Member member, LocalDateTime lastStart);
+    Map<Long, Long> countCommunicationWeekByMemberIds(List<Long> memberIds, LocalDateTime lastStart);
 }
@@ -7,6 +7,8 @@ import lombok.RequiredArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.senabo.domain.communication.entity.QCommunication.communication;
 
@@ -47,4 +49,20 @@ public class CommunicationRepositoryImpl implements CommunicationRepositoryCusto
                 )
                 .fetchOne();
     }
+
+    @Override
+    public Map<Long, Long> countCommunicationWeekByMemberIds(List<Long> memberIds, LocalDateTime lastStart) {
+        if (memberIds.isEmpty()) return Map.of();
+        return queryFactory
+                .select(communication.memberId.id, communication.count())
+                .from(communication)
+                .where(
+                        communication.memberId.id.in(memberIds),
+                        communication.createTime.goe(lastStart)
+                )
+                .groupBy(communication.memberId.id)
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(tuple -> tuple.get(communication.memberId.id), tuple -> tuple.get(communication.count())));
+    }
 }
@@ -8,6 +8,7 @@ import com.senabo.domain.communication.repository.CommunicationRepository;
 import com.senabo.domain.member.entity.Member;
 import com.senabo.domain.member.service.MemberService;
 import com.senabo.domain.report.entity.Report;
+import com.senabo.domain.report.service.ReportAccumulatorService;
 import com.senabo.domain.report.service.ReportService;
 import com.senabo.exception.message.ExceptionMessage;
 import com.senabo.exception.model.UserException;
@@ -21,6 +22,7 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
@@ -30,6 +32,7 @@ import java.util.Optional;
 public class CommunicationService {
     private final CommunicationRepository communicationRepository;
     private final MemberService memberService;
+    private final ReportAccumulatorService reportAccumulatorService;
 
     @Transactional
     public CommunicationResponse createCommunication(Member member, ActivityType type) {
@@ -40,6 +43,7 @@ public class CommunicationService {
         } catch (DataIntegrityViolationException e) {
             throw new UserException(String.valueOf(ExceptionMessage.FAIL_SAVE_DATA));
         }
+        reportAccumulatorService.accumulateCommunication(member.getId());
 
         return CommunicationResponse.from(communication);
     }
@@ -65,6 +69,8 @@ public class CommunicationService {
         try {
             Member member = memberService.findByEmail(email);
             List<Communication> list = communicationRepository.deleteByMemberId(member);
+            communicationRepository.flush();
+            reportAccumulatorService.rebuild(member.getId());
         } catch (DataIntegrityViolationException e) {
             throw new UserException(ExceptionMessage.FAIL_DELETE_DATA);
         }
@@ -73,4 +79,8 @@ public class CommunicationService {
     public Long getCountCommunicationWeek(Member member, LocalDateTime lastStart){
         return communicationRepository.countCommunicationWeek(member, lastStart);
     }
+
+    public Map<Long, Long> getCountCommunicationWeekMap(List<Long> memberIds, LocalDateTime lastStart) {
+        return communicationRepository.countCommunicationWeekByMemberIds(memberIds, lastStart);
+    }
 }
@@ -5,11 +5,13 @@ import com.senabo.domain.member.entity.Member;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 
 public interface DiseaseRepositoryCustom {
     List<Disease> findByMemberId(Member memberId);
     List<Disease> findLastWeekData(Member memberId, LocalDateTime lastStart);
     Long countLastWeekData(Member memberId, LocalDateTime lastStart);
+    Map<Long, Long> countLastWeekDataByMemberIds(List<Long> memberIds, LocalDateTime lastStart);
     List<Disease> findDiseaseWeek(Member member, LocalDateTime endTime, LocalDateTime startTime);
 }
@@ -7,6 +7,8 @@ import lombok.RequiredArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.senabo.domain.disease.entity.QDisease.disease;
 
@@ -57,4 +59,20 @@ public class DiseaseRepositoryImpl implements DiseaseRepositoryCustom{
                 .orderBy(disease.createTime.desc())
                 .fetch();
     }
+
+    @Override
+    public Map<Long, Long> countLastWeekDataByMemberIds(List<Long> memberIds, LocalDateTime lastStart) {
+        if (memberIds.isEmpty()) return Map.of();
+        return queryFactory
+                .select(disease.memberId.id, disease.count())
+                .from(disease)
+                .where(
+                        disease.memberId.id.in(memberIds),
+                        disease.createTime.goe(lastStart)
+                )
+                .groupBy(disease.memberId.id)
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(tuple -> tuple.get(disease.memberId.id), tuple -> tuple.get(disease.count())));
+    }
 }
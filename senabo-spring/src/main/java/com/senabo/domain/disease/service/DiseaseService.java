@@ -6,6 +6,7 @@ import com.senabo.domain.disease.repository.DiseaseRepository;
 import com.senabo.domain.member.entity.Member;
 import com.senabo.domain.member.service.MemberService;
 import com.senabo.domain.report.entity.Report;
+import com.senabo.domain.report.service.ReportAccumulatorService;
 import com.senabo.domain.report.service.ReportService;
 import com.senabo.exception.message.ExceptionMessage;
 import com.senabo.exception.model.UserException;
@@ -19,6 +20,7 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
@@ -28,6 +30,7 @@ import java.util.Optional;
 public class DiseaseService {
     private final DiseaseRepository diseaseRepository;
     private final MemberService memberService;
+    private final ReportAccumulatorService reportAccumulatorService;
 
     @Transactional
     public DiseaseResponse createDisease(String email, String diseaseName) {
@@ -39,6 +42,7 @@ public class DiseaseService {
         } catch (DataIntegrityViolationException e) {
             throw new UserException(String.valueOf(ExceptionMessage.FAIL_SAVE_DATA));
         }
+        reportAccumulatorService.accumulateDisease(member.getId());
         return DiseaseResponse.from(disease);
     }
 
@@ -62,6 +66,8 @@ public class DiseaseService {
         try {
             Member member = memberService.findByEmail(email);
             List<Disease> list = diseaseRepository.deleteByMemberId(member);
+            diseaseRepository.flush();
+            reportAccumulatorService.rebuild(member.getId());
         } catch (DataIntegrityViolationException e) {
             throw new UserException(ExceptionMessage.FAIL_DELETE_DATA);
         }
@@ -73,5 +79,7 @@ public class DiseaseService {
         return count;
     }
 
-
+    public Map<Long, Long> getCountLastWeekDiseaseMap(List<Long> memberIds, LocalDateTime lastStart) {
+        return diseaseRepository.countLastWeekDataByMemberIds(memberIds, lastStart);
+    }
 }
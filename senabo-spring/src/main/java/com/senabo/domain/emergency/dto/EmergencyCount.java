@@ -0,0 +1,12 @@
+package com.senabo.domain.emergency.dto;
+
+import com.senabo.domain.emergency.entity.EmergencyType;
+
+// 회원, 타입별 돌발상황 발생 횟수 (7일간 / 오늘)
+public record EmergencyCount(
+        Long memberId,
+        EmergencyType type,
+        long weekCount,
+        long todayCount
+) {
+}
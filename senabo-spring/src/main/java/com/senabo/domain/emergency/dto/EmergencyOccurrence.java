@@ -0,0 +1,13 @@
+package com.senabo.domain.emergency.dto;
+
+import com.senabo.domain.emergency.entity.EmergencyType;
+
+import java.time.LocalDateTime;
+
+// 회원의 돌발상황 발생 시각 (주간 계획의 횟수 제한 계산용)
+public record EmergencyOccurrence(
+        Long memberId,
+        EmergencyType type,
+        LocalDateTime createTime
+) {
+}
@@ -0,0 +1,24 @@
+package com.senabo.domain.emergency.dto;
+
+import com.senabo.domain.emergency.entity.EmergencyPlan;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 돌발상황 계획 backfill 대상 조회용 (회원 엔티티를 로딩하지 않음)
+// plannedWeekStart: 저장된 계획의 주차 시작 시각, 계획이 없으면 null
+public record MemberPlanWeek(
+        Long memberId,
+        LocalDate nextReportDate,
+        LocalDateTime plannedWeekStart
+) {
+    // 이번 리포트 주차 시작일
+    public LocalDate reportStartDate() {
+        return nextReportDate.minusDays(7);
+    }
+
+    // 이번 리포트 주차(next_report_date - 7일 START_HOUR 시부터) 계획이 없는지
+    public boolean isStale() {
+        return plannedWeekStart == null || plannedWeekStart.isBefore(EmergencyPlan.weekStartOf(reportStartDate()));
+    }
+}
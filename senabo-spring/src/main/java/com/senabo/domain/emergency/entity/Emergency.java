@@ -10,6 +10,7 @@ import lombok.*;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
+@Table(indexes = @Index(name = "idx_emergency_member_solved_create_time", columnList = "member_id, solved, create_time"))
 public class Emergency extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
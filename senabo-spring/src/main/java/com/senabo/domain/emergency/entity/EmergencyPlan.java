@@ -0,0 +1,84 @@
+package com.senabo.domain.emergency.entity;
+
+import com.senabo.common.audit.BaseEntity;
+import com.senabo.domain.member.entity.Member;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+
+// 회원의 한 주(리포트 주차) 돌발상황 계획
+// 리포트 주차 시작일 START_HOUR 시부터 1시간 단위 슬롯(168개)마다 비트 종류별 실행 여부를 bitset 으로 저장
+// 매시 스케줄러는 nextDueTime 이 지난 회원만 조회
+@Getter
+@Entity
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(indexes = @Index(name = "idx_emergency_plan_next_due_time", columnList = "next_due_time"))
+public class EmergencyPlan extends BaseEntity {
+    public static final int SLOTS = 7 * 24;
+    // 리포트 마감(매일 1시) 다음 시각부터 계획을 시작
+    // 새 계획은 첫 슬롯 전에 만들어지고, 마감일 0시와 1시 틱은 이전 계획의 마지막 슬롯이 맡음
+    public static final int START_HOUR = 2;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false, unique = true)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", unique = true)
+    private Member memberId;
+
+    @Column(name = "week_start", columnDefinition = "datetime")
+    private LocalDateTime weekStart;
+
+    // 인덱스: bit.ordinal() * SLOTS + 슬롯
+    @Column(name = "slots", length = 256)
+    private byte[] slots;
+
+    // 남은 슬롯이 없으면 null
+    @Column(name = "next_due_time", columnDefinition = "datetime")
+    private LocalDateTime nextDueTime;
+
+    public EmergencyPlan(Member memberId, LocalDateTime weekStart, BitSet bits, LocalDateTime from) {
+        this.memberId = memberId;
+        this.weekStart = weekStart;
+        this.slots = bits.toByteArray();
+        this.nextDueTime = nextSlotTime(from);
+    }
+
+    // reportStartDate: 리포트 주차 시작일
+    public static LocalDateTime weekStartOf(LocalDate reportStartDate) {
+        return reportStartDate.atTime(START_HOUR, 0);
+    }
+
+    public static int index(EmergencyPlanBit bit, int slot) {
+        return bit.ordinal() * SLOTS + slot;
+    }
+
+    public boolean has(EmergencyPlanBit bit, LocalDateTime time) {
+        int slot = slotOf(time);
+        return slot >= 0 && slot < SLOTS && BitSet.valueOf(slots).get(index(bit, slot));
+    }
+
+    // from 이후(포함) 비트가 하나라도 있는 첫 슬롯 시각
+    public LocalDateTime nextSlotTime(LocalDateTime from) {
+        BitSet bits = BitSet.valueOf(slots);
+        int start = Math.max(0, slotOf(from.minusNanos(1)) + 1);
+        for (int slot = start; slot < SLOTS; slot++) {
+            for (EmergencyPlanBit bit : EmergencyPlanBit.values()) {
+                if (bits.get(index(bit, slot))) return weekStart.plusHours(slot);
+            }
+        }
+        return null;
+    }
+
+    private int slotOf(LocalDateTime time) {
+        return (int) Math.floorDiv(Duration.between(weekStart, time).getSeconds(), 3600);
+    }
+}
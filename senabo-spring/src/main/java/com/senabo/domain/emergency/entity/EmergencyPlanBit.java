@@ -0,0 +1,12 @@
+package com.senabo.domain.emergency.entity;
+
+// 돌발상황 계획(EmergencyPlan)의 비트 종류
+// 타입별 발생 + 주말 산책/구토 알림 이후 같은 날 남은 시각의 후속 확인
+public enum EmergencyPlanBit {
+    POOP, STOMACHACHE, ANXIETY, DEPRESSION, CRUSH, BITE, WALK, BARKING, VOMITING,
+    WALK_CHECK, VOMITING_CHECK;
+
+    public static EmergencyPlanBit of(EmergencyType type) {
+        return valueOf(type.name());
+    }
+}
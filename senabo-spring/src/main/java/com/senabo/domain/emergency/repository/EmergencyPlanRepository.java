@@ -0,0 +1,9 @@
+package com.senabo.domain.emergency.repository;
+
+import com.senabo.domain.emergency.entity.EmergencyPlan;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EmergencyPlanRepository extends JpaRepository<EmergencyPlan, Long>, EmergencyPlanRepositoryCustom {
+}
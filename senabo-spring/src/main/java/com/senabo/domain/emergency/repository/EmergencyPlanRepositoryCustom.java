@@ -0,0 +1,18 @@
+package com.senabo.domain.emergency.repository;
+
+import com.senabo.domain.emergency.dto.MemberPlanWeek;
+import com.senabo.domain.emergency.entity.EmergencyPlan;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public interface EmergencyPlanRepositoryCustom {
+    List<EmergencyPlan> findByMemberIds(List<Long> memberIds);
+
+    int upsertAll(List<EmergencyPlan> plans, LocalDateTime now);
+
+    int updateNextDueTime(Map<EmergencyPlan, LocalDateTime> nextDueTimes, LocalDateTime now);
+
+    List<MemberPlanWeek> findPlanMemberChunk(Long lastId, int size);
+}
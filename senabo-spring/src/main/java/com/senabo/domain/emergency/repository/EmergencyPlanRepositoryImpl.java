@@ -0,0 +1,91 @@
+package com.senabo.domain.emergency.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.senabo.domain.emergency.dto.MemberPlanWeek;
+import com.senabo.domain.emergency.entity.EmergencyPlan;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.senabo.domain.emergency.entity.QEmergencyPlan.emergencyPlan;
+import static com.senabo.domain.member.entity.QMember.member;
+
+@RequiredArgsConstructor
+public class EmergencyPlanRepositoryImpl implements EmergencyPlanRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<EmergencyPlan> findByMemberIds(List<Long> memberIds) {
+        if (memberIds.isEmpty()) return List.of();
+        return queryFactory
+                .selectFrom(emergencyPlan)
+                .where(emergencyPlan.memberId.id.in(memberIds))
+                .fetch();
+    }
+
+    // 회원당 한 행, 새 주차 계획으로 덮어씀
+    @Override
+    public int upsertAll(List<EmergencyPlan> plans, LocalDateTime now) {
+        if (plans.isEmpty()) return 0;
+        jdbcTemplate.batchUpdate("""
+                insert into emergency_plan (member_id, week_start, slots, next_due_time, create_time, update_time)
+                values (?, ?, ?, ?, ?, ?)
+                on duplicate key update
+                    week_start = values(week_start),
+                    slots = values(slots),
+                    next_due_time = values(next_due_time),
+                    update_time = values(update_time)
+                """, plans, plans.size(), (ps, plan) -> {
+            ps.setLong(1, plan.getMemberId().getId());
+            ps.setObject(2, plan.getWeekStart());
+            ps.setBytes(3, plan.getSlots());
+            ps.setObject(4, plan.getNextDueTime());
+            ps.setObject(5, now);
+            ps.setObject(6, now);
+        });
+        return plans.size();
+    }
+
+    // plan -> 다음 실행 시각 (남은 슬롯이 없으면 null)
+    // 틱이 도는 사이 새 주차 계획으로 덮어썼으면 건드리지 않음
+    @Override
+    public int updateNextDueTime(Map<EmergencyPlan, LocalDateTime> nextDueTimes, LocalDateTime now) {
+        if (nextDueTimes.isEmpty()) return 0;
+        List<Map.Entry<EmergencyPlan, LocalDateTime>> entries = new ArrayList<>(nextDueTimes.entrySet());
+        jdbcTemplate.batchUpdate(
+                "update emergency_plan set next_due_time = ?, update_time = ? where id = ? and week_start = ?",
+                entries, entries.size(), (ps, entry) -> {
+                    ps.setObject(1, entry.getValue());
+                    ps.setObject(2, now);
+                    ps.setLong(3, entry.getKey().getId());
+                    ps.setObject(4, entry.getKey().getWeekStart());
+                });
+        return entries.size();
+    }
+
+    // lastId 다음 미완료 회원의 리포트 마감일과 저장된 계획 주차 (backfill 대상은 MemberPlanWeek.isStale 로 거름)
+    @Override
+    public List<MemberPlanWeek> findPlanMemberChunk(Long lastId, int size) {
+        return queryFactory
+                .select(Projections.constructor(MemberPlanWeek.class,
+                        member.id,
+                        member.nextReportDate,
+                        emergencyPlan.weekStart))
+                .from(member)
+                .leftJoin(emergencyPlan).on(emergencyPlan.memberId.eq(member))
+                .where(
+                        member.id.gt(lastId),
+                        member.complete.isFalse(),
+                        member.nextReportDate.isNotNull()
+                )
+                .orderBy(member.id.asc())
+                .limit(size)
+                .fetch();
+    }
+}
@@ -1,5 +1,7 @@
 package com.senabo.domain.emergency.repository;
 
+import com.senabo.domain.emergency.dto.EmergencyCount;
+import com.senabo.domain.emergency.dto.EmergencyOccurrence;
 import com.senabo.domain.emergency.entity.Emergency;
 import com.senabo.domain.emergency.entity.EmergencyType;
 import com.senabo.domain.member.entity.Member;
@@ -11,6 +13,8 @@ import java.util.Optional;
 public interface EmergencyRepositoryCustom {
     Optional<Emergency> findLatestEmergency(Member member);
     List<Emergency> findLastWeekEmergency(Member member);
+    List<EmergencyCount> countByTypeAndMemberIds(List<Long> memberIds, LocalDateTime sevenDaysAgo, LocalDateTime today);
+    List<EmergencyOccurrence> findOccurrencesByMemberIds(List<Long> memberIds, LocalDateTime since);
     List<Emergency> findByTypeToday(Member member, EmergencyType type);
-    Optional<Emergency> findUnsolvedEmergency(Member member, EmergencyType type);
+    List<Emergency> findLatestUnsolvedEmergencyByType(Member member);
 }
@@ -1,8 +1,14 @@
 package com.senabo.domain.emergency.repository;
 
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.senabo.domain.emergency.dto.EmergencyCount;
+import com.senabo.domain.emergency.dto.EmergencyOccurrence;
 import com.senabo.domain.emergency.entity.Emergency;
 import com.senabo.domain.emergency.entity.EmergencyType;
+import com.senabo.domain.emergency.entity.QEmergency;
 import com.senabo.domain.member.entity.Member;
 import lombok.RequiredArgsConstructor;
 
@@ -40,6 +46,36 @@ public class EmergencyRepositoryImpl implements EmergencyRepositoryCustom {
                 .fetch();
     }
 
+    // 회원, 타입별 7일간 / 오늘 발생 횟수를 group by 한 번으로 조회
+    @Override
+    public List<EmergencyCount> countByTypeAndMemberIds(List<Long> memberIds, LocalDateTime sevenDaysAgo, LocalDateTime today) {
+        if (memberIds.isEmpty()) return List.of();
+        return queryFactory
+                .select(Projections.constructor(EmergencyCount.class,
+                        emergency.memberId.id,
+                        emergency.type,
+                        emergency.count(),
+                        new CaseBuilder().when(emergency.createTime.goe(today)).then(1L).otherwise(0L).sum()))
+                .from(emergency)
+                .where(emergency.memberId.id.in(memberIds), emergency.createTime.goe(sevenDaysAgo))
+                .groupBy(emergency.memberId.id, emergency.type)
+                .fetch();
+    }
+
+    // 회원별 since 이후 돌발상황 발생 시각
+    @Override
+    public List<EmergencyOccurrence> findOccurrencesByMemberIds(List<Long> memberIds, LocalDateTime since) {
+        if (memberIds.isEmpty()) return List.of();
+        return queryFactory
+                .select(Projections.constructor(EmergencyOccurrence.class,
+                        emergency.memberId.id,
+                        emergency.type,
+                        emergency.createTime))
+                .from(emergency)
+                .where(emergency.memberId.id.in(memberIds), emergency.createTime.goe(since))
+                .fetch();
+    }
+
     @Override
     public List<Emergency> findByTypeToday(Member member, EmergencyType type) {
         LocalDateTime today = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS);
@@ -51,17 +87,22 @@ public class EmergencyRepositoryImpl implements EmergencyRepositoryCustom {
                 .fetch();
     }
 
+    // 7일간 타입별 가장 최근의 미해결 돌발상황 (타입별 max(id) 조인 한 번)
     @Override
-    public Optional<Emergency> findUnsolvedEmergency(Member member, EmergencyType type) {
+    public List<Emergency> findLatestUnsolvedEmergencyByType(Member member) {
         LocalDateTime sevenDaysAgo = LocalDateTime.now().minusDays(7).truncatedTo(ChronoUnit.DAYS);
-        return Optional.ofNullable(queryFactory
+        QEmergency sub = new QEmergency("sub");
+        return queryFactory
                 .selectFrom(emergency)
-                .where(emergency.memberId.eq(member),
-                        emergency.type.eq(type),
-                        emergency.solved.isFalse(),
-                        emergency.createTime.goe(sevenDaysAgo))
-                .orderBy(emergency.createTime.desc())
-                .limit(1)
-                .fetchOne());
+                .where(emergency.id.in(
+                        JPAExpressions
+                                .select(sub.id.max())
+                                .from(sub)
+                                .where(sub.memberId.eq(member),
+                                        sub.solved.isFalse(),
+                                        sub.createTime.goe(sevenDaysAgo))
+                                .groupBy(sub.type)))
+                .orderBy(emergency.type.asc())
+                .fetch();
     }
 }
@@ -0,0 +1,40 @@
+package com.senabo.domain.emergency.service;
+
+import com.senabo.common.schedule.CronTickRule;
+import com.senabo.common.schedule.TickContext;
+import com.senabo.config.firebase.FCMMessage;
+import com.senabo.domain.member.dto.MemberTick;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// 주말 짖음 돌발 상황: 오후 7시 - 오후 11시, 토 - 일
+@Order(6)
+@Component
+public class BarkWeekendEmergencyTickRule extends CronTickRule {
+    private final EmergencyService emergencyService;
+
+    public BarkWeekendEmergencyTickRule(EmergencyService emergencyService) {
+        super("0 0 19-23 * * SAT,SUN");
+        this.emergencyService = emergencyService;
+    }
+
+    @Override
+    public boolean dueOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean usesEmergencyPlan() {
+        return true;
+    }
+
+    @Override
+    public boolean accepts(MemberTick member) {
+        return member.deviceToken() != null;
+    }
+
+    @Override
+    public FCMMessage apply(MemberTick member, TickContext context) {
+        return emergencyService.ramdomBarkWeekendEmergency(member, context);
+    }
+}
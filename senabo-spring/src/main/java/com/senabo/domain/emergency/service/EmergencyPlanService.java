@@ -0,0 +1,127 @@
+package com.senabo.domain.emergency.service;
+
+import com.senabo.domain.emergency.dto.EmergencyOccurrence;
+import com.senabo.domain.emergency.dto.MemberPlanWeek;
+import com.senabo.domain.emergency.entity.EmergencyPlan;
+import com.senabo.domain.emergency.entity.EmergencyPlanBit;
+import com.senabo.domain.emergency.entity.EmergencyType;
+import com.senabo.domain.emergency.repository.EmergencyPlanRepository;
+import com.senabo.domain.emergency.repository.EmergencyRepository;
+import com.senabo.domain.member.entity.Member;
+import com.senabo.domain.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 돌발상황 주간 계획: 가입과 주간 리포트 마감 때 한 주 분량을 미리 뽑아 두고, 매시 틱은 due 가 된 회원만 읽음
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class EmergencyPlanService {
+    private final EmergencyPlanRepository emergencyPlanRepository;
+    private final EmergencyRepository emergencyRepository;
+    private final EmergencyPlanner emergencyPlanner;
+    private final MemberRepository memberRepository;
+
+    @Value("${scheduler.chunk-size}")
+    private int chunkSize;
+
+    // reportStartDate: 새 리포트 주차 시작일
+    @Transactional
+    public void createPlans(List<Member> members, LocalDate reportStartDate) {
+        if (members.isEmpty()) return;
+        LocalDateTime weekStart = EmergencyPlan.weekStartOf(reportStartDate);
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Map<EmergencyType, Set<LocalDateTime>>> histories = getHistoryMap(
+                members.stream().map(Member::getId).toList(), weekStart, now);
+        List<EmergencyPlan> plans = members.stream()
+                .map(member -> new EmergencyPlan(member, weekStart,
+                        emergencyPlanner.plan(weekStart, now, histories.getOrDefault(member.getId(), Map.of())), now))
+                .toList();
+        emergencyPlanRepository.upsertAll(plans, now);
+    }
+
+    // 회원 -> 타입 -> 횟수 제한에 들어가는 발생 시각 (시 단위)
+    // 7일 전 0시부터 저장된 돌발상황 + 이전 계획에서 새 계획 시작 전까지 남은 슬롯
+    private Map<Long, Map<EmergencyType, Set<LocalDateTime>>> getHistoryMap(List<Long> memberIds, LocalDateTime weekStart, LocalDateTime now) {
+        Map<Long, Map<EmergencyType, Set<LocalDateTime>>> histories = new HashMap<>();
+        LocalDateTime since = weekStart.minusDays(7).truncatedTo(ChronoUnit.DAYS);
+        for (EmergencyOccurrence occurrence : emergencyRepository.findOccurrencesByMemberIds(memberIds, since)) {
+            addHistory(histories, occurrence.memberId(), occurrence.type(), occurrence.createTime());
+        }
+        for (EmergencyPlan plan : emergencyPlanRepository.findByMemberIds(memberIds)) {
+            for (LocalDateTime time = now.truncatedTo(ChronoUnit.HOURS); time.isBefore(weekStart); time = time.plusHours(1)) {
+                for (EmergencyType type : EmergencyType.values()) {
+                    if (plan.has(EmergencyPlanBit.of(type), time)) addHistory(histories, plan.getMemberId().getId(), type, time);
+                }
+            }
+        }
+        return histories;
+    }
+
+    private void addHistory(Map<Long, Map<EmergencyType, Set<LocalDateTime>>> histories, Long memberId, EmergencyType type, LocalDateTime time) {
+        histories.computeIfAbsent(memberId, id -> new EnumMap<>(EmergencyType.class))
+                .computeIfAbsent(type, key -> new TreeSet<>())
+                .add(time.truncatedTo(ChronoUnit.HOURS));
+    }
+
+    public Map<Long, EmergencyPlan> getPlanMap(List<Long> memberIds) {
+        return emergencyPlanRepository.findByMemberIds(memberIds).stream()
+                .collect(Collectors.toMap(plan -> plan.getMemberId().getId(), Function.identity()));
+    }
+
+    // tickTime 까지 due 가 된 계획은 다음 슬롯으로 옮김
+    @Transactional
+    public void advancePlans(Collection<EmergencyPlan> plans, LocalDateTime tickTime) {
+        Map<EmergencyPlan, LocalDateTime> nextDueTimes = new HashMap<>();
+        for (EmergencyPlan plan : plans) {
+            if (plan.getNextDueTime() == null || plan.getNextDueTime().isAfter(tickTime)) continue;
+            nextDueTimes.put(plan, plan.nextSlotTime(tickTime.plusHours(1)));
+        }
+        emergencyPlanRepository.updateNextDueTime(nextDueTimes, LocalDateTime.now());
+    }
+
+    // 배포 직후 진행 중인 회원의 이번 주 계획 생성 (리포트 마감일 backfill 이후)
+    // 회원 엔티티 대신 id, 마감일만 chunkSize 단위로 읽고 계획에는 참조만 사용
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        int count = 0;
+        Long lastId = 0L;
+        while (true) {
+            List<MemberPlanWeek> chunk = emergencyPlanRepository.findPlanMemberChunk(lastId, chunkSize);
+            if (chunk.isEmpty()) break;
+
+            List<MemberPlanWeek> stale = chunk.stream().filter(MemberPlanWeek::isStale).toList();
+            stale.stream()
+                    .collect(Collectors.groupingBy(MemberPlanWeek::reportStartDate))
+                    .forEach((reportStartDate, group) -> createPlans(group.stream()
+                            .map(target -> memberRepository.getReference(target.memberId()))
+                            .toList(), reportStartDate));
+            count += stale.size();
+            memberRepository.clearPersistenceContext();
+
+            lastId = chunk.get(chunk.size() - 1).memberId();
+            if (chunk.size() < chunkSize) break;
+        }
+        log.info("돌발상황 계획 생성: " + count + "건");
+    }
+}
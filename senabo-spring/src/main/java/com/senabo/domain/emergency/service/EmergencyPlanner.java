@@ -0,0 +1,111 @@
+package com.senabo.domain.emergency.service;
+
+import com.senabo.domain.emergency.entity.EmergencyPlanBit;
+import com.senabo.domain.emergency.entity.EmergencyType;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntPredicate;
+
+import static com.senabo.domain.emergency.entity.EmergencyPlan.SLOTS;
+import static com.senabo.domain.emergency.entity.EmergencyPlan.index;
+
+// 돌발상황 규칙의 확률/횟수 제한을 한 주 단위로 미리 계산
+// 주중 낮(13-22시): 30% 확률로 POOP, STOMACHACHE, ANXIETY, DEPRESSION 중 7일간 3회 이하인 타입
+// 주중 저녁(0-3시): 30% 확률로 CRUSH, BITE 중 7일간 3회가 아닌 타입
+// 주말 산책(5-7시), 구토(5-8시): 그날 알림 전까지 매시 30%, 알림 이후 남은 시각은 후속 확인
+// 주말 짖음(19-23시): 그날 알림 전까지 매시 30%, 23시에는 무조건
+// 7일간 횟수는 슬롯마다 (7일 전 0시 ~ 슬롯) 구간으로 세고, 지난 주차 발생 기록(history)도 포함
+@Component
+public class EmergencyPlanner {
+    private static final double SEND_RATE = 0.3;
+    private static final List<EmergencyType> DAY_TYPES = List.of(
+            EmergencyType.POOP, EmergencyType.STOMACHACHE, EmergencyType.ANXIETY, EmergencyType.DEPRESSION);
+    private static final List<EmergencyType> EVENING_TYPES = List.of(EmergencyType.CRUSH, EmergencyType.BITE);
+
+    // weekStart: 계획 시작 시각, from 이전 슬롯은 비워 둠
+    // history: 타입 -> weekStart 전 7일간 발생(예정) 시각
+    public BitSet plan(LocalDateTime weekStart, LocalDateTime from, Map<EmergencyType, ? extends Collection<LocalDateTime>> history) {
+        return plan(weekStart, from, history, ThreadLocalRandom.current());
+    }
+
+    BitSet plan(LocalDateTime weekStart, LocalDateTime from, Map<EmergencyType, ? extends Collection<LocalDateTime>> history, Random random) {
+        BitSet bits = new BitSet();
+        Map<EmergencyType, List<LocalDateTime>> occurred = new EnumMap<>(EmergencyType.class);
+        history.forEach((type, times) -> occurred.put(type, new ArrayList<>(times)));
+        boolean walked = false;
+        boolean barked = false;
+        boolean vomited = false;
+
+        for (int slot = 0; slot < SLOTS; slot++) {
+            LocalDateTime time = weekStart.plusHours(slot);
+            int hour = time.getHour();
+            if (hour == 0) {
+                walked = false;
+                barked = false;
+                vomited = false;
+            }
+            if (time.isBefore(from)) continue;
+
+            DayOfWeek day = time.getDayOfWeek();
+            if (day != DayOfWeek.SATURDAY && day != DayOfWeek.SUNDAY) {
+                if (hour >= 13 && hour <= 22) pick(bits, slot, time, random, DAY_TYPES, occurred, count -> count <= 3);
+                if (hour <= 3) pick(bits, slot, time, random, EVENING_TYPES, occurred, count -> count != 3);
+                continue;
+            }
+
+            if (hour >= 5 && hour <= 7) {
+                walked = sendOnce(bits, slot, random, walked, EmergencyPlanBit.WALK, EmergencyPlanBit.WALK_CHECK);
+            }
+            if (hour >= 5 && hour <= 8) {
+                vomited = sendOnce(bits, slot, random, vomited, EmergencyPlanBit.VOMITING, EmergencyPlanBit.VOMITING_CHECK);
+            }
+            if (hour >= 19 && hour <= 23 && !barked && (random.nextDouble() < SEND_RATE || hour == 23)) {
+                bits.set(index(EmergencyPlanBit.BARKING, slot));
+                barked = true;
+            }
+        }
+        return bits;
+    }
+
+    // 횟수 제한을 넘지 않은 타입 중 하나를 무작위로 선택
+    private void pick(BitSet bits, int slot, LocalDateTime time, Random random, List<EmergencyType> types,
+                      Map<EmergencyType, List<LocalDateTime>> occurred, IntPredicate allowed) {
+        if (random.nextDouble() >= SEND_RATE) return;
+        List<EmergencyType> candidates = types.stream()
+                .filter(type -> allowed.test(countLastWeek(occurred.getOrDefault(type, List.of()), time)))
+                .toList();
+        if (candidates.isEmpty()) return;
+
+        EmergencyType type = candidates.get(random.nextInt(candidates.size()));
+        bits.set(index(EmergencyPlanBit.of(type), slot));
+        occurred.computeIfAbsent(type, key -> new ArrayList<>()).add(time);
+    }
+
+    // getEmergencyLastWeek 와 같은 구간: 7일 전 0시부터
+    static int countLastWeek(Collection<LocalDateTime> times, LocalDateTime time) {
+        LocalDateTime since = time.minusDays(7).truncatedTo(ChronoUnit.DAYS);
+        return (int) times.stream().filter(t -> !t.isBefore(since) && t.isBefore(time)).count();
+    }
+
+    // 그날 이미 보냈으면 후속 확인, 아니면 확률로 알림
+    private boolean sendOnce(BitSet bits, int slot, Random random, boolean sent, EmergencyPlanBit send, EmergencyPlanBit check) {
+        if (sent) {
+            bits.set(index(check, slot));
+            return true;
+        }
+        if (random.nextDouble() >= SEND_RATE) return false;
+        bits.set(index(send, slot));
+        return true;
+    }
+}
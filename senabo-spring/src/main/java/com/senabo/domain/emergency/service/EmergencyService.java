@@ -1,17 +1,25 @@
 package com.senabo.domain.emergency.service;
 
 import com.senabo.common.message.ParsingMessageService;
+import com.senabo.common.schedule.TickContext;
 import com.senabo.config.firebase.FCMMessage;
 import com.senabo.config.firebase.FCMService;
+import com.senabo.config.firebase.FCMType;
+import com.senabo.domain.emergency.dto.EmergencyCount;
 import com.senabo.domain.emergency.dto.response.EmergencyResponse;
 import com.senabo.domain.emergency.entity.Emergency;
+import com.senabo.domain.emergency.entity.EmergencyPlan;
+import com.senabo.domain.emergency.entity.EmergencyPlanBit;
 import com.senabo.domain.emergency.entity.EmergencyType;
 import com.senabo.domain.emergency.repository.EmergencyRepository;
 import com.senabo.domain.expense.entity.Expense;
 import com.senabo.domain.expense.service.ExpenseService;
+import com.senabo.domain.member.dto.MemberTick;
 import com.senabo.domain.member.entity.Member;
+import com.senabo.domain.member.service.MemberService;
+import com.senabo.domain.notification.service.NotificationOutboxService;
 import com.senabo.domain.stress.entity.StressType;
-import com.senabo.domain.stress.service.StressService;
+import com.senabo.domain.stress.service.StressLedger;
 import com.senabo.domain.walk.entity.Walk;
 import com.senabo.domain.walk.service.WalkService;
 import com.senabo.exception.message.ExceptionMessage;
@@ -25,7 +33,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -35,103 +43,58 @@ public class EmergencyService {
     private final FCMService fcmService;
     private final EmergencyRepository emergencyRepository;
     private final ParsingMessageService parsingMessageService;
-    private final StressService stressService;
     private final WalkService walkService;
     private final ExpenseService expenseService;
+    private final MemberService memberService;
+    private final EmergencyPlanService emergencyPlanService;
+    private final NotificationOutboxService notificationOutboxService;
 
-    public FCMMessage ramdomDayEmergency(Member member) {
-        if (!ramdomSend()) return fcmService.makeEmpty();
-        EmergencyType type;
-        EmergencyType[] types = {EmergencyType.POOP, EmergencyType.STOMACHACHE, EmergencyType.ANXIETY, EmergencyType.DEPRESSION};
-        List<Emergency> list = getEmergencyLastWeek(member);
-        int[] cnt = new int[4];
-        for (Emergency emergency : list) {
-            EmergencyType getType = emergency.getType();
-            if (getType == EmergencyType.POOP) cnt[0]++;
-            else if (getType == EmergencyType.STOMACHACHE) cnt[1]++;
-            else if (getType == EmergencyType.ANXIETY) cnt[2]++;
-            else if (getType == EmergencyType.DEPRESSION) cnt[3]++;
-        }
+    // 발생 여부와 타입은 주간 계획(EmergencyPlanner)에서 미리 정해 둠
+    public FCMMessage ramdomDayEmergency(MemberTick member, TickContext context) {
+        EmergencyType type = context.plannedEmergency(member.id(),
+                EmergencyType.POOP, EmergencyType.STOMACHACHE, EmergencyType.ANXIETY, EmergencyType.DEPRESSION);
+        if (type == null) return fcmService.makeEmpty();
 
-        List<EmergencyType> typeList = new ArrayList<>();
-        for (int i = 0; i < 4; i++) {
-            if (cnt[i] <= 3) {
-                typeList.add(types[i]);
-            }
-            log.info("==========================================================");
-            log.info("typeList: {}", typeList.get(i).toString());
-            log.info("==========================================================");
-        }
-        if (typeList.isEmpty()) return fcmService.makeEmpty();
-
-        type = comb(typeList);
         String body = "";
-        String dogName = parsingMessageService.parseLastCharacter(member.getDogName());
+        String dogName = parsingMessageService.parseLastCharacter(member.dogName());
+        StressLedger ledger = context.getLedger();
         switch (type) {
             case POOP -> {
                 body = "집에서 냄새가 나요";
-                stressService.saveStress(member, StressType.POOP, 5);
+                ledger.record(member, StressType.POOP, 5);
             }
             case STOMACHACHE -> {
                 body = dogName + "가 아픈 것 같아요";
-                stressService.saveStress(member, StressType.STOMACHACHE, 5);
+                ledger.record(member, StressType.STOMACHACHE, 5);
             }
             case ANXIETY -> {
                 body = "외부 소음으로 인해 불안함을 느낍니다";
-                stressService.saveStress(member, StressType.ANXIETY, 5);
+                ledger.record(member, StressType.ANXIETY, 5);
             }
             case DEPRESSION -> {
                 body = dogName + "가 무기력함을 느낍니다";
-                stressService.saveStress(member, StressType.DEPRESSION, 5);
+                ledger.record(member, StressType.DEPRESSION, 5);
             }
         }
 
-        saveEmergency(member, type);
-        return fcmService.makeMessage("세상에 나쁜 보호자는 있다", body, member.getDeviceToken());
+        context.addEmergency(new Emergency(memberService.getReference(member.id()), type, false));
+        return fcmService.makeMessage(FCMType.EMERGENCY, "세상에 나쁜 보호자는 있다", body, member.deviceToken());
     }
 
-    public FCMMessage ramdomEveningEmergency(Member member) {
-        if (!ramdomSend()) return fcmService.makeEmpty();
-        EmergencyType type;
-        EmergencyType[] types = {EmergencyType.CRUSH, EmergencyType.BITE};
-        List<Emergency> list = getEmergencyLastWeek(member);
-        int[] cnt = new int[2];
-        for (Emergency emergency : list) {
-            EmergencyType getType = emergency.getType();
-            if (getType == EmergencyType.CRUSH) cnt[0]++;
-            else if (getType == EmergencyType.BITE) cnt[1]++;
-        }
-        List<EmergencyType> typeList = new ArrayList<>();
-        for (int i = 0; i < 2; i++) {
-            if (cnt[i] != 3) {
-                typeList.add(types[i]);
-            }
-        }
-        if (typeList.isEmpty()) return fcmService.makeEmpty();
+    public FCMMessage ramdomEveningEmergency(MemberTick member, TickContext context) {
+        EmergencyType type = context.plannedEmergency(member.id(), EmergencyType.CRUSH, EmergencyType.BITE);
+        if (type == null) return fcmService.makeEmpty();
 
-        type = comb(typeList);
         String body = "";
-        String dogName = parsingMessageService.parseLastCharacter(member.getDogName());
+        String dogName = parsingMessageService.parseLastCharacter(member.dogName());
         switch (type) {
             case CRUSH -> body = dogName + "가 잠을 자지 않아요";
             case BITE -> body = "물림 사고가 발생했어요!";
         }
-        saveEmergency(member, type);
-        return fcmService.makeMessage("세상에 나쁜 보호자는 있다", body, member.getDeviceToken());
-    }
-
-
-    public boolean ramdomSend() {
-        Random random = new Random();
-        double randomValue = random.nextDouble();
-        // 70%의 확률로 false, 30%의 확률로 true
-        return randomValue < 0.3;
+        context.addEmergency(new Emergency(memberService.getReference(member.id()), type, false));
+        return fcmService.makeMessage(FCMType.EMERGENCY, "세상에 나쁜 보호자는 있다", body, member.deviceToken());
     }
 
-    public EmergencyType comb(List<EmergencyType> types) {
-        int randomIndex = new Random().nextInt(types.size());
-        return types.get(randomIndex);
-    }
 
     @Transactional
     public void saveEmergency(Member member, EmergencyType type) {
@@ -143,6 +106,18 @@ public class EmergencyService {
         }
     }
 
+    // 틱에서 모은 돌발상황 일괄 저장
+    @Transactional
+    public void saveEmergencies(List<Emergency> emergencies) {
+        if (emergencies.isEmpty()) return;
+        emergencyRepository.saveAll(emergencies);
+        try {
+            emergencyRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new DataException(ExceptionMessage.FAIL_SAVE_DATA);
+        }
+    }
+
     @Transactional
     public EmergencyResponse solvedEmergency(Member member, Long id) {
         Optional<Emergency> emergencyOptional = emergencyRepository.findByIdAndMemberId(id, member);
@@ -157,66 +132,69 @@ public class EmergencyService {
         return emergencyRepository.findLastWeekEmergency(member);
     }
 
+    // 회원 -> 타입 -> 7일간 / 오늘 발생 횟수
+    public Map<Long, Map<EmergencyType, EmergencyCount>> getEmergencyCountMap(List<Long> memberIds, LocalDateTime now) {
+        LocalDateTime sevenDaysAgo = now.minusDays(7).truncatedTo(ChronoUnit.DAYS);
+        LocalDateTime today = now.truncatedTo(ChronoUnit.DAYS);
+        Map<Long, Map<EmergencyType, EmergencyCount>> counts = new HashMap<>();
+        for (EmergencyCount count : emergencyRepository.countByTypeAndMemberIds(memberIds, sevenDaysAgo, today)) {
+            counts.computeIfAbsent(count.memberId(), id -> new EnumMap<>(EmergencyType.class)).put(count.type(), count);
+        }
+        return counts;
+    }
+
+    public Map<Long, EmergencyPlan> getEmergencyPlanMap(List<Long> memberIds) {
+        return emergencyPlanService.getPlanMap(memberIds);
+    }
+
+    @Transactional
+    public void advanceEmergencyPlans(Collection<EmergencyPlan> plans, LocalDateTime tickTime) {
+        emergencyPlanService.advancePlans(plans, tickTime);
+    }
+
 
-    public FCMMessage ramdomWalkWeekendEmergency(Member member) {
-        List<Emergency> emergencyList = emergencyRepository.findByTypeToday(member, EmergencyType.WALK);
-        // 보낸 적이 있으면 산책 나갔는지 검사
-        if (!emergencyList.isEmpty()) {
-            Optional<Walk> walkOptional = walkService.findLatestData(member);
-            if (walkOptional.isEmpty()) stressService.saveStress(member, StressType.WALK, 10);
+    public FCMMessage ramdomWalkWeekendEmergency(MemberTick member, TickContext context) {
+        // 계획된 시각에 알림 (돌발상황으로 저장하지 않음)
+        if (context.emergencyPlanned(member.id(), EmergencyPlanBit.WALK)) {
+            String dogName = parsingMessageService.parseLastCharacter(member.dogName());
+            String body = dogName + "가 산책을 가고 싶어해요";
+            return fcmService.makeMessage(FCMType.EMERGENCY, "세상에 나쁜 보호자는 있다", body, member.deviceToken());
         }
-        // 보낸 적이 없으면 ramdom, 무조건 1번 알림
-        else {
-            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
-            LocalDateTime eightAm = now.withHour(8).withMinute(0).withSecond(0).withNano(0);
-            if (ramdomSend() || now.isEqual(eightAm) || now.isAfter(eightAm)) {
-                String dogName = parsingMessageService.parseLastCharacter(member.getDogName());
-                String body = dogName + "가 산책을 가고 싶어해요";
-                return fcmService.makeMessage("세상에 나쁜 보호자는 있다", body, member.getDeviceToken());
-            }
+        // 후속 확인 시각이면 산책 나갔는지 검사, 계획은 그날 알림 이후에만 후속 확인을 둠
+        if (context.emergencyPlanned(member.id(), EmergencyPlanBit.WALK_CHECK)) {
+            Optional<Walk> walkOptional = walkService.findLatestData(memberService.getReference(member.id()));
+            if (walkOptional.isEmpty()) context.getLedger().record(member, StressType.WALK, 10);
         }
         return fcmService.makeEmpty();
     }
 
-    public FCMMessage ramdomBarkWeekendEmergency(Member member) {
-        List<Emergency> emergencyList = emergencyRepository.findByTypeToday(member, EmergencyType.BARKING);
-        if (!emergencyList.isEmpty()) return fcmService.makeEmpty();
-        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
-        LocalDateTime elevenPm = now.withHour(23).withMinute(0).withSecond(0).withNano(0);
-        if (ramdomSend() || now.isEqual(elevenPm) || now.isAfter(elevenPm)) {
-            stressService.saveStress(member, StressType.BARKING, 5);
-            String dogName = parsingMessageService.parseLastCharacter(member.getDogName());
-            String body = dogName + "가 짖어서 민원이 들어올 수 있습니다";
-            return fcmService.makeMessage("세상에 나쁜 보호자는 있다", body, member.getDeviceToken());
-        }
-        return fcmService.makeEmpty();
+    public FCMMessage ramdomBarkWeekendEmergency(MemberTick member, TickContext context) {
+        // 계획이 하루 한 번만 짖음 시각을 둠
+        if (!context.emergencyPlanned(member.id(), EmergencyPlanBit.BARKING)) return fcmService.makeEmpty();
+        context.getLedger().record(member, StressType.BARKING, 5);
+        String dogName = parsingMessageService.parseLastCharacter(member.dogName());
+        String body = dogName + "가 짖어서 민원이 들어올 수 있습니다";
+        return fcmService.makeMessage(FCMType.EMERGENCY, "세상에 나쁜 보호자는 있다", body, member.deviceToken());
     }
 
-    public FCMMessage ramdomVomitingWeekendEmergency(Member member) {
-        List<Emergency> emergencyList = emergencyRepository.findByTypeToday(member, EmergencyType.VOMITING);
-        // 보낸 적이 있으면 병원에 갔는지 검사
-        if (!emergencyList.isEmpty()) {
-            List<Expense> expenseList = expenseService.findTodayExpense(member);
-            if (expenseList.isEmpty()) stressService.saveStress(member, StressType.VOMITING, 20);
+    public FCMMessage ramdomVomitingWeekendEmergency(MemberTick member, TickContext context) {
+        // 계획된 시각에 알림 (돌발상황으로 저장하지 않음)
+        if (context.emergencyPlanned(member.id(), EmergencyPlanBit.VOMITING)) {
+            String dogName = parsingMessageService.parseLastCharacter(member.dogName());
+            String body = dogName + "의 상태가 좋지 않습니다";
+            context.getLedger().record(member, StressType.VOMITING, 5);
+            return fcmService.makeMessage(FCMType.EMERGENCY, "세상에 나쁜 보호자는 있다", body, member.deviceToken());
         }
-        // 보낸 적이 없으면 ramdom
-        else {
-            if (ramdomSend()) {
-                String dogName = parsingMessageService.parseLastCharacter(member.getDogName());
-                String body = dogName + "의 상태가 좋지 않습니다";
-                stressService.saveStress(member, StressType.VOMITING, 5);
-                return fcmService.makeMessage("세상에 나쁜 보호자는 있다", body, member.getDeviceToken());
-            }
+        // 후속 확인 시각이면 병원에 갔는지 검사, 계획은 그날 알림 이후에만 후속 확인을 둠
+        if (context.emergencyPlanned(member.id(), EmergencyPlanBit.VOMITING_CHECK)) {
+            List<Expense> expenseList = expenseService.findTodayExpense(memberService.getReference(member.id()));
+            if (expenseList.isEmpty()) context.getLedger().record(member, StressType.VOMITING, 20);
         }
         return fcmService.makeEmpty();
     }
 
     public List<EmergencyResponse> getEmergencyLastWeekUnSolved(Member member) {
-        EmergencyType[] types = EmergencyType.values();
-        return Arrays.stream(types)
-                .map(type -> emergencyRepository.findUnsolvedEmergency(member, type))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
+        return emergencyRepository.findLatestUnsolvedEmergencyByType(member).stream()
                 .map(EmergencyResponse::from)
                 .toList();
     }
@@ -238,19 +216,17 @@ public class EmergencyService {
 //            TimeUnit.SECONDS.sleep(1);
 
 
+            // 돌발상황 저장과 같은 트랜잭션으로 outbox 에 저장
+            List<FCMMessage> messages = new ArrayList<>();
             String dogName = parsingMessageService.parseLastCharacter(member.getDogName());
             body = dogName + "가 아픈 것 같아요";
-            fcmService.sendNotificationByToken(title, body, member.getDeviceToken());
+            messages.add(fcmService.makeMessage(FCMType.EMERGENCY, title, body, member.getDeviceToken()));
             saveEmergency(member, EmergencyType.STOMACHACHE);
 
-            TimeUnit.SECONDS.sleep(1);
-
             body = "외부 소음으로 인해 불안함을 느낍니다";
-            fcmService.sendNotificationByToken(title, body, member.getDeviceToken());
+            messages.add(fcmService.makeMessage(FCMType.EMERGENCY, title, body, member.getDeviceToken()));
             saveEmergency(member, EmergencyType.ANXIETY);
 
-            TimeUnit.SECONDS.sleep(1);
-
 //            body = dogName + "가 분리불안을 느끼고 있어요";
 //            fcmService.sendNotificationByToken(title, body, member.getDeviceToken());
 //            saveEmergency(member, EmergencyType.CRUSH);
@@ -258,10 +234,12 @@ public class EmergencyService {
 //            TimeUnit.SECONDS.sleep(1);
 
             body = dogName + "가 무기력함을 느낍니다";
-            fcmService.sendNotificationByToken(title, body, member.getDeviceToken());
+            messages.add(fcmService.makeMessage(FCMType.EMERGENCY, title, body, member.getDeviceToken()));
             saveEmergency(member, EmergencyType.DEPRESSION);
-        }catch (Exception e){
-            e.printStackTrace();
+
+            notificationOutboxService.enqueue("emergency-test:" + member.getId() + ":" + LocalDateTime.now(), messages);
+        }catch (DataException e){
+            log.error("Member ID: " + member.getId() + " 에러 발생: {}", e.getMessage());
         }
 
     }
@@ -0,0 +1,40 @@
+package com.senabo.domain.emergency.service;
+
+import com.senabo.common.schedule.CronTickRule;
+import com.senabo.common.schedule.TickContext;
+import com.senabo.config.firebase.FCMMessage;
+import com.senabo.domain.member.dto.MemberTick;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// 주중 저녁 돌발 상황: 오전 0시 - 오전 3시, 월 - 금
+@Order(4)
+@Component
+public class EveningEmergencyTickRule extends CronTickRule {
+    private final EmergencyService emergencyService;
+
+    public EveningEmergencyTickRule(EmergencyService emergencyService) {
+        super("0 0 0-3 * * MON-FRI");
+        this.emergencyService = emergencyService;
+    }
+
+    @Override
+    public boolean dueOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean usesEmergencyPlan() {
+        return true;
+    }
+
+    @Override
+    public boolean accepts(MemberTick member) {
+        return member.deviceToken() != null;
+    }
+
+    @Override
+    public FCMMessage apply(MemberTick member, TickContext context) {
+        return emergencyService.ramdomEveningEmergency(member, context);
+    }
+}
@@ -0,0 +1,40 @@
+package com.senabo.domain.emergency.service;
+
+import com.senabo.common.schedule.CronTickRule;
+import com.senabo.common.schedule.TickContext;
+import com.senabo.config.firebase.FCMMessage;
+import com.senabo.domain.member.dto.MemberTick;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// 주말 토 돌발 상황: 오전 5시 - 오전 8시, 토 - 일
+@Order(7)
+@Component
+public class VomitingWeekendEmergencyTickRule extends CronTickRule {
+    private final EmergencyService emergencyService;
+
+    public VomitingWeekendEmergencyTickRule(EmergencyService emergencyService) {
+        super("0 0 5-8 * * SAT,SUN");
+        this.emergencyService = emergencyService;
+    }
+
+    @Override
+    public boolean dueOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean usesEmergencyPlan() {
+        return true;
+    }
+
+    @Override
+    public boolean accepts(MemberTick member) {
+        return member.deviceToken() != null;
+    }
+
+    @Override
+    public FCMMessage apply(MemberTick member, TickContext context) {
+        return emergencyService.ramdomVomitingWeekendEmergency(member, context);
+    }
+}
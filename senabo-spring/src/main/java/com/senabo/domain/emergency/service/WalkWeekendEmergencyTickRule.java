@@ -0,0 +1,40 @@
+package com.senabo.domain.emergency.service;
+
+import com.senabo.common.schedule.CronTickRule;
+import com.senabo.common.schedule.TickContext;
+import com.senabo.config.firebase.FCMMessage;
+import com.senabo.domain.member.dto.MemberTick;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// 주말 산책 돌발 상황: 오전 5시 - 오전 7시, 토 - 일
+@Order(5)
+@Component
+public class WalkWeekendEmergencyTickRule extends CronTickRule {
+    private final EmergencyService emergencyService;
+
+    public WalkWeekendEmergencyTickRule(EmergencyService emergencyService) {
+        super("0 0 5-7 * * SAT,SUN");
+        this.emergencyService = emergencyService;
+    }
+
+    @Override
+    public boolean dueOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean usesEmergencyPlan() {
+        return true;
+    }
+
+    @Override
+    public boolean accepts(MemberTick member) {
+        return member.deviceToken() != null;
+    }
+
+    @Override
+    public FCMMessage apply(MemberTick member, TickContext context) {
+        return emergencyService.ramdomWalkWeekendEmergency(member, context);
+    }
+}
@@ -0,0 +1,50 @@
+package com.senabo.domain.feed.entity;
+
+import com.senabo.common.audit.BaseEntity;
+import com.senabo.domain.member.entity.Member;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 회원별 배식/배변 규칙의 다음 실행 시각 (매시 스케줄러는 due 가 지난 회원만 조회)
+// feedDueTime: 마지막 배식 + 12시간, poopDueTime: 마지막 배식 + 1시간 (치우면 null)
+@Getter
+@Entity
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_feed_schedule_feed_due_time", columnList = "feed_due_time"),
+        @Index(name = "idx_feed_schedule_poop_due_time", columnList = "poop_due_time")
+})
+public class FeedSchedule extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false, unique = true)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", unique = true)
+    private Member memberId;
+
+    @Column(name = "feed_due_time", columnDefinition = "datetime")
+    private LocalDateTime feedDueTime;
+
+    @Column(name = "poop_due_time", columnDefinition = "datetime")
+    private LocalDateTime poopDueTime;
+
+    public FeedSchedule(Member memberId, LocalDateTime lastFeedH) {
+        this.memberId = memberId;
+        reschedule(lastFeedH);
+    }
+
+    public void reschedule(LocalDateTime lastFeedH) {
+        this.feedDueTime = lastFeedH.plusHours(12);
+        this.poopDueTime = lastFeedH.plusHours(1);
+    }
+
+    public void clearPoop() {
+        this.poopDueTime = null;
+    }
+}
@@ -15,4 +15,5 @@ public interface FeedRepositoryCustom {
     List<Feed> findByMemberId(Member member);
     Optional<Feed> findLatestData(Member member);
     List<Feed> findFeedWeek(Member member, LocalDateTime endTime, LocalDateTime startTime);
+    List<Feed> findLatestDataByMemberIds(List<Long> memberIds);
 }
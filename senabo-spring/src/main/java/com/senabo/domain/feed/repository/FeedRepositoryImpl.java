@@ -1,7 +1,9 @@
 package com.senabo.domain.feed.repository;
 
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.senabo.domain.feed.entity.Feed;
+import com.senabo.domain.feed.entity.QFeed;
 import com.senabo.domain.member.entity.Member;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.jpa.repository.Query;
@@ -50,4 +52,22 @@ public class FeedRepositoryImpl implements FeedRepositoryCustom {
                 .fetch();
 
     }
+
+    // 회원별 마지막 배식 일괄 조회
+    // 배변 처리는 항상 마지막 배식만 수정하므로 updateTime 최신 = id 최대
+    @Override
+    public List<Feed> findLatestDataByMemberIds(List<Long> memberIds) {
+        if (memberIds.isEmpty()) return List.of();
+        QFeed sub = new QFeed("sub");
+        return queryFactory
+                .selectFrom(feed)
+                .where(feed.id.in(
+                        JPAExpressions
+                                .select(sub.id.max())
+                                .from(sub)
+                                .where(sub.memberId.id.in(memberIds))
+                                .groupBy(sub.memberId.id)
+                ))
+                .fetch();
+    }
 }
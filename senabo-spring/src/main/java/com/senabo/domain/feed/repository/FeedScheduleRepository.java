@@ -0,0 +1,16 @@
+package com.senabo.domain.feed.repository;
+
+import com.senabo.domain.feed.entity.FeedSchedule;
+import com.senabo.domain.member.entity.Member;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface FeedScheduleRepository extends JpaRepository<FeedSchedule, Long>, FeedScheduleRepositoryCustom {
+    Optional<FeedSchedule> findByMemberId(Member member);
+
+    List<FeedSchedule> deleteByMemberId(Member member);
+}
@@ -0,0 +1,11 @@
+package com.senabo.domain.feed.repository;
+
+import com.senabo.domain.feed.entity.FeedSchedule;
+
+import java.util.List;
+
+public interface FeedScheduleRepositoryCustom {
+    List<FeedSchedule> findByMemberIds(List<Long> memberIds);
+
+    int backfill();
+}
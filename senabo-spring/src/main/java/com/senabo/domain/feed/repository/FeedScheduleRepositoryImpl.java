@@ -0,0 +1,42 @@
+package com.senabo.domain.feed.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.senabo.domain.feed.entity.FeedSchedule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static com.senabo.domain.feed.entity.QFeedSchedule.feedSchedule;
+
+@RequiredArgsConstructor
+public class FeedScheduleRepositoryImpl implements FeedScheduleRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<FeedSchedule> findByMemberIds(List<Long> memberIds) {
+        if (memberIds.isEmpty()) return List.of();
+        return queryFactory
+                .selectFrom(feedSchedule)
+                .where(feedSchedule.memberId.id.in(memberIds))
+                .fetch();
+    }
+
+    // 스케줄이 없는 회원의 마지막 배식 기준으로 스케줄 생성
+    @Override
+    public int backfill() {
+        return jdbcTemplate.update("""
+                insert into feed_schedule (member_id, feed_due_time, poop_due_time, create_time, update_time)
+                select f.member_id,
+                       date_add(date_format(f.create_time, '%Y-%m-%d %H:00:00'), interval 12 hour),
+                       case when f.clean_yn then null
+                            else date_add(date_format(f.create_time, '%Y-%m-%d %H:00:00'), interval 1 hour) end,
+                       now(), now()
+                from feed f
+                where f.id in (select max(l.id) from feed l group by l.member_id)
+                  and not exists (select 1 from feed_schedule s where s.member_id = f.member_id)
+                """);
+    }
+}
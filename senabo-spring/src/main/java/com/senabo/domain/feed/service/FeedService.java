@@ -1,22 +1,29 @@
 package com.senabo.domain.feed.service;
 
 import com.senabo.common.message.ParsingMessageService;
+import com.senabo.common.schedule.TickContext;
 import com.senabo.config.firebase.FCMMessage;
 import com.senabo.config.firebase.FCMService;
+import com.senabo.config.firebase.FCMType;
 import com.senabo.domain.feed.dto.response.CheckFeedResponse;
 import com.senabo.domain.feed.dto.response.FeedResponse;
 import com.senabo.domain.feed.entity.Feed;
+import com.senabo.domain.feed.entity.FeedSchedule;
 import com.senabo.domain.feed.repository.FeedRepository;
+import com.senabo.domain.feed.repository.FeedScheduleRepository;
+import com.senabo.domain.member.dto.MemberTick;
 import com.senabo.domain.member.entity.Member;
 import com.senabo.domain.member.service.MemberService;
 import com.senabo.domain.report.entity.Report;
 import com.senabo.domain.stress.entity.StressType;
-import com.senabo.domain.stress.service.StressService;
+import com.senabo.domain.stress.service.StressLedger;
 import com.senabo.exception.message.ExceptionMessage;
 import com.senabo.exception.model.DataException;
 import com.senabo.exception.model.UserException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,7 +32,10 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -33,8 +43,8 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class FeedService {
     private final FeedRepository feedRepository;
+    private final FeedScheduleRepository feedScheduleRepository;
     private final MemberService memberService;
-    private final StressService stressService;
     private final ParsingMessageService parsingMessageService;
     private final FCMService fcmService;
     private final String title = "세상에 나쁜 보호자는 있다";
@@ -49,9 +59,37 @@ public class FeedService {
         } catch (DataIntegrityViolationException e) {
             throw new UserException(String.valueOf(ExceptionMessage.FAIL_SAVE_DATA));
         }
+        reschedule(member, feed.getCreateTime().truncatedTo(ChronoUnit.HOURS));
         return FeedResponse.from(feed);
     }
 
+    private void reschedule(Member member, LocalDateTime lastFeedH) {
+        Optional<FeedSchedule> scheduleOptional = feedScheduleRepository.findByMemberId(member);
+        if (scheduleOptional.isPresent()) {
+            scheduleOptional.get().reschedule(lastFeedH);
+            return;
+        }
+        feedScheduleRepository.save(new FeedSchedule(member, lastFeedH));
+    }
+
+    // 배포 직후 기존 회원의 스케줄 생성
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillFeedSchedule() {
+        try {
+            int count = feedScheduleRepository.backfill();
+            log.info("배식 스케줄 생성: " + count + "건");
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 동시에 생성한 경우
+            log.info("배식 스케줄 생성 건너뜀: {}", e.getMessage());
+        }
+    }
+
+    public Map<Long, FeedSchedule> findScheduleMap(List<Long> memberIds) {
+        return feedScheduleRepository.findByMemberIds(memberIds).stream()
+                .collect(Collectors.toMap(schedule -> schedule.getMemberId().getId(), Function.identity()));
+    }
+
     @Transactional
     public List<Feed> getFeed(String email) {
         Member member = memberService.findByEmail(email);
@@ -72,6 +110,7 @@ public class FeedService {
         try {
             Member member = memberService.findByEmail(email);
             List<Feed> list = feedRepository.deleteByMemberId(member);
+            feedScheduleRepository.deleteByMemberId(member);
         } catch (DataIntegrityViolationException e) {
             throw new UserException(ExceptionMessage.FAIL_DELETE_DATA);
         }
@@ -107,22 +146,32 @@ public class FeedService {
     }
 
 
+    public Map<Long, Feed> findLatestDataMap(List<Long> memberIds) {
+        return feedRepository.findLatestDataByMemberIds(memberIds).stream()
+                .collect(Collectors.toMap(feed -> feed.getMemberId().getId(), Function.identity()));
+    }
+
     @Transactional
     public FeedResponse updatePoop(String email) {
         Member member = memberService.findByEmail(email);
         Feed feed = findLatestData(member);
         if (!feed.getCleanYn()) {
             feed.update();
+            feedScheduleRepository.findByMemberId(member).ifPresent(FeedSchedule::clearPoop);
         }
         return FeedResponse.from(feed);
     }
 
-    @Transactional
-    public FCMMessage scheduleFeed(Member member) {
+    public FCMMessage scheduleFeed(MemberTick member, TickContext context) {
         try {
-            Feed feed = findLatestData(member);
-            LocalDateTime now = LocalDateTime.now();
-            LocalDateTime nowH = now.truncatedTo(ChronoUnit.HOURS);
+            // 배식 12시간 전이면 건너뜀
+            FeedSchedule schedule = context.feedSchedule(member.id());
+            if (schedule == null || schedule.getFeedDueTime().isAfter(context.getTickTime())) return fcmService.makeEmpty();
+
+            Feed feed = context.latestFeed(member.id());
+            StressLedger ledger = context.getLedger();
+            if (feed == null) throw new DataException(ExceptionMessage.DATA_NOT_FOUND);
+            LocalDateTime nowH = context.getTickTime();
             LocalDateTime lastFeedH = feed.getCreateTime().truncatedTo(ChronoUnit.HOURS);
 
             LocalDateTime twelveAfter = lastFeedH.plusHours(12);
@@ -136,16 +185,16 @@ public class FeedService {
             if (nowH.equals(twelveAfter)) {
                 log.info("배식 후 12시간 경과: 밥 푸시 알림 실행");
                 // 밥 푸시 알림
-                if (member.getDeviceToken() != null) {
+                if (member.deviceToken() != null) {
                     // FCM
-                    String dogName = parsingMessageService.parseLastCharacter(member.getDogName());
-                    return fcmService.makeMessage(title, dogName + "의 밥을 줄 시간이에요!", member.getDeviceToken());
+                    String dogName = parsingMessageService.parseLastCharacter(member.dogName());
+                    return fcmService.makeMessage(FCMType.FEED, title, dogName + "의 밥을 줄 시간이에요!", member.deviceToken());
                 }
             }
             // 배식 13시간 경과 이후 : 스트레스 1 씩 증가
             else if (nowH.isAfter(twelveAfter)) {
                 log.info("배식 후 13시간 경과: 스트레스 증가");
-                int originStress = member.getStressLevel();
+                int originStress = ledger.level(member);
                 if (originStress == 100) return fcmService.makeEmpty();
                 // 스트레스 1 증가
                 Duration duration = Duration.between(nowH, lastFeedH);
@@ -155,32 +204,36 @@ public class FeedService {
                 if (nowH.isEqual(fifteenAfter)) {
                     log.info("배식 " + hours + "시간 경과: 공복 토 푸시 알림 및 스트레스 3 증가");
                     // 공복 토 푸시 알림
-                    if (member.getDeviceToken() != null) {
+                    if (member.deviceToken() != null) {
                         // FCM
-                        String dogName = parsingMessageService.parseLastCharacter(member.getDogName());
-                        return fcmService.makeMessage(title, dogName + "가 공복이어서 토를 했어요", member.getDeviceToken());
+                        String dogName = parsingMessageService.parseLastCharacter(member.dogName());
+                        return fcmService.makeMessage(FCMType.FEED, title, dogName + "가 공복이어서 토를 했어요", member.deviceToken());
                     }
                     // 스트레스 3 증가
                     changeAmount = 3;
                 }
-                stressService.saveStress(member, StressType.FEED, changeAmount);
+                ledger.record(member, StressType.FEED, changeAmount);
             }
         } catch (DataException e) {
-            log.error("Member ID: " + member.getId() + " 에러 발생: {}", e.getMessage());
+            log.error("Member ID: " + member.id() + " 에러 발생: {}", e.getMessage());
         }
 
         return fcmService.makeEmpty();
     }
 
-    @Transactional
-    public FCMMessage schedulePoop(Member member) {
+    public FCMMessage schedulePoop(MemberTick member, TickContext context) {
         try {
-            Feed feed = findLatestData(member);
+            // 배식 1시간 전이거나 이미 치웠으면 건너뜀
+            FeedSchedule schedule = context.feedSchedule(member.id());
+            if (schedule == null || schedule.getPoopDueTime() == null || schedule.getPoopDueTime().isAfter(context.getTickTime())) return fcmService.makeEmpty();
 
-            // 밥 먹은 지 3시간 후인지 확인
-            CheckFeedResponse response = checkLastFeed(member.getEmail());
-            LocalDateTime lastFeedH = response.lastFeedDateTime();
-            LocalDateTime nowH = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+            Feed feed = context.latestFeed(member.id());
+            StressLedger ledger = context.getLedger();
+            if (feed == null) throw new DataException(ExceptionMessage.DATA_NOT_FOUND);
+
+            // 밥 먹은 지 1시간 후인지 확인
+            LocalDateTime lastFeedH = feed.getCreateTime().truncatedTo(ChronoUnit.HOURS);
+            LocalDateTime nowH = context.getTickTime();
 
             log.info("마지막 밥 제공 시간: " + lastFeedH);
 
@@ -189,13 +242,13 @@ public class FeedService {
             // 밥 먹은 지 1시간
             if (nowH.isEqual(oneAfter)) {
                 // 배변 활동 푸시 알림
-                if (member.getDeviceToken() != null) {
+                if (member.deviceToken() != null) {
                     // FCM
-                    String dogName = parsingMessageService.parseLastCharacter(member.getDogName());
-                    return fcmService.makeMessage(title, dogName + "가 배변을 했어요!", member.getDeviceToken());
+                    String dogName = parsingMessageService.parseLastCharacter(member.dogName());
+                    return fcmService.makeMessage(FCMType.POOP, title, dogName + "가 배변을 했어요!", member.deviceToken());
                 }
             } else if (nowH.isAfter(oneAfter)) {
-                int originStress = member.getStressLevel();
+                int originStress = ledger.level(member);
                 // 밥 먹은 지 1시간 후인데 CleanYn: true || 이미 스트레스가 100
                 if (feed.getCleanYn() || originStress == 100) {
                     return fcmService.makeEmpty();
@@ -205,10 +258,10 @@ public class FeedService {
                 long hours = duration.toHours();
                 log.info("배변 후 " + hours + "시간 경과: 스트레스 1 증가");
                 int changeAmount = 1;
-                stressService.saveStress(member, StressType.POOP, changeAmount);
+                ledger.record(member, StressType.POOP, changeAmount);
             }
         } catch (DataException e) {
-            log.error("Member ID: " + member.getId() + " 에러 발생: {}", e.getMessage());
+            log.error("Member ID: " + member.id() + " 에러 발생: {}", e.getMessage());
         }
         return fcmService.makeEmpty();
     }
@@ -0,0 +1,30 @@
+package com.senabo.domain.feed.service;
+
+import com.senabo.common.schedule.CronTickRule;
+import com.senabo.common.schedule.TickContext;
+import com.senabo.config.firebase.FCMMessage;
+import com.senabo.domain.member.dto.MemberTick;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// 배변: 1시간 마다
+@Order(1)
+@Component
+public class PoopTickRule extends CronTickRule {
+    private final FeedService feedService;
+
+    public PoopTickRule(FeedService feedService) {
+        super("0 0 0/1 * * *");
+        this.feedService = feedService;
+    }
+
+    @Override
+    public boolean dueOnly() {
+        return true;
+    }
+
+    @Override
+    public FCMMessage apply(MemberTick member, TickContext context) {
+        return feedService.schedulePoop(member, context);
+    }
+}
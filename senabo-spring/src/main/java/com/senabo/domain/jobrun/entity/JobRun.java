@@ -0,0 +1,111 @@
+package com.senabo.domain.jobrun.entity;
+
+import com.senabo.common.audit.BaseEntity;
+import com.senabo.common.schedule.ShardRange;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 스케줄러 실행 기록 (job, tick, 샤드 구간 별 1건)
+// lastMemberId 까지 처리 완료, lease 가 살아있는 동안은 다른 실행이 시작하지 않음
+@Getter
+@Entity
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_job_run_job_tick_shard", columnNames = {"job", "tick_time", "shard_from"})
+}, indexes = {
+        @Index(name = "idx_job_run_status_lease", columnList = "status, lease_until")
+})
+public class JobRun extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false, unique = true)
+    private Long id;
+
+    @Column(name = "job")
+    private String job;
+
+    @Column(name = "tick_time", columnDefinition = "datetime")
+    private LocalDateTime tickTime;
+
+    @Column(name = "shard_from")
+    private int shardFrom;
+
+    @Column(name = "shard_to")
+    private int shardTo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private JobRunStatus status;
+
+    @Column(name = "last_member_id")
+    private Long lastMemberId;
+
+    @Column(name = "processed_count")
+    private long processedCount;
+
+    @Column(name = "chunk_count")
+    private int chunkCount;
+
+    @Column(name = "start_time", columnDefinition = "datetime")
+    private LocalDateTime startTime;
+
+    @Column(name = "end_time", columnDefinition = "datetime")
+    private LocalDateTime endTime;
+
+    @Column(name = "lease_owner")
+    private String leaseOwner;
+
+    @Column(name = "lease_until", columnDefinition = "datetime")
+    private LocalDateTime leaseUntil;
+
+    public JobRun(String job, LocalDateTime tickTime, ShardRange shard) {
+        this.job = job;
+        this.tickTime = tickTime;
+        this.shardFrom = shard.from();
+        this.shardTo = shard.to();
+        this.status = JobRunStatus.RUNNING;
+        this.lastMemberId = 0L;
+    }
+
+    public ShardRange getShard() {
+        return new ShardRange(shardFrom, shardTo);
+    }
+
+    public boolean isLeased(LocalDateTime now) {
+        return status == JobRunStatus.RUNNING && leaseUntil != null && leaseUntil.isAfter(now);
+    }
+
+    public void claim(String owner, LocalDateTime now, LocalDateTime leaseUntil) {
+        this.status = JobRunStatus.RUNNING;
+        this.leaseOwner = owner;
+        this.leaseUntil = leaseUntil;
+        if (this.startTime == null) this.startTime = now;
+    }
+
+    public void checkpoint(Long lastMemberId, int processed, LocalDateTime leaseUntil) {
+        this.lastMemberId = lastMemberId;
+        this.processedCount += processed;
+        this.chunkCount++;
+        this.leaseUntil = leaseUntil;
+    }
+
+    public void renewLease(LocalDateTime leaseUntil) {
+        this.leaseUntil = leaseUntil;
+    }
+
+    public void complete(LocalDateTime now) {
+        this.status = JobRunStatus.COMPLETED;
+        this.endTime = now;
+        this.leaseUntil = null;
+    }
+
+    public void fail(LocalDateTime now) {
+        this.status = JobRunStatus.FAILED;
+        this.endTime = now;
+        this.leaseUntil = null;
+    }
+}
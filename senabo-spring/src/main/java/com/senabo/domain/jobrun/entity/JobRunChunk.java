@@ -0,0 +1,35 @@
+package com.senabo.domain.jobrun.entity;
+
+import com.senabo.common.audit.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+// 청크 트랜잭션에서 함께 커밋한 회원 id 구간
+// 체크포인트는 청크 커밋 뒤 따로 기록하므로, 그 사이에 중단되면 재실행 때 이 구간을 건너뜀
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_job_run_chunk_run_last", columnList = "job_run_id, last_member_id")
+})
+public class JobRunChunk extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false, unique = true)
+    private Long id;
+
+    @Column(name = "job_run_id")
+    private Long jobRunId;
+
+    @Column(name = "first_member_id")
+    private Long firstMemberId;
+
+    @Column(name = "last_member_id")
+    private Long lastMemberId;
+
+    public JobRunChunk(Long jobRunId, Long firstMemberId, Long lastMemberId) {
+        this.jobRunId = jobRunId;
+        this.firstMemberId = firstMemberId;
+        this.lastMemberId = lastMemberId;
+    }
+}
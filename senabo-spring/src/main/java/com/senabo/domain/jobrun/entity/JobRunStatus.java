@@ -0,0 +1,7 @@
+package com.senabo.domain.jobrun.entity;
+
+public enum JobRunStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,9 @@
+package com.senabo.domain.jobrun.repository;
+
+import com.senabo.domain.jobrun.entity.JobRunChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobRunChunkRepository extends JpaRepository<JobRunChunk, Long>, JobRunChunkRepositoryCustom {
+}
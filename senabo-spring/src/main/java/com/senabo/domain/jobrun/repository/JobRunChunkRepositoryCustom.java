@@ -0,0 +1,11 @@
+package com.senabo.domain.jobrun.repository;
+
+import com.senabo.domain.jobrun.entity.JobRunChunk;
+
+import java.util.List;
+
+public interface JobRunChunkRepositoryCustom {
+    List<JobRunChunk> findCommittedAfter(Long jobRunId, Long lastMemberId);
+
+    long deleteByJobRun(Long jobRunId);
+}
@@ -0,0 +1,35 @@
+package com.senabo.domain.jobrun.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.senabo.domain.jobrun.entity.JobRunChunk;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+import static com.senabo.domain.jobrun.entity.QJobRunChunk.jobRunChunk;
+
+@RequiredArgsConstructor
+public class JobRunChunkRepositoryImpl implements JobRunChunkRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    // 체크포인트 뒤에서 이미 커밋된 구간
+    @Override
+    public List<JobRunChunk> findCommittedAfter(Long jobRunId, Long lastMemberId) {
+        return queryFactory
+                .selectFrom(jobRunChunk)
+                .where(
+                        jobRunChunk.jobRunId.eq(jobRunId),
+                        jobRunChunk.lastMemberId.gt(lastMemberId)
+                )
+                .fetch();
+    }
+
+    @Override
+    public long deleteByJobRun(Long jobRunId) {
+        return queryFactory
+                .delete(jobRunChunk)
+                .where(jobRunChunk.jobRunId.eq(jobRunId))
+                .execute();
+    }
+}
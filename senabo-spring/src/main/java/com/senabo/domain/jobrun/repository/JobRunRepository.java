@@ -0,0 +1,16 @@
+package com.senabo.domain.jobrun.repository;
+
+import com.senabo.domain.jobrun.entity.JobRun;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface JobRunRepository extends JpaRepository<JobRun, Long>, JobRunRepositoryCustom {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<JobRun> findByJobAndTickTimeAndShardFrom(String job, LocalDateTime tickTime, int shardFrom);
+}
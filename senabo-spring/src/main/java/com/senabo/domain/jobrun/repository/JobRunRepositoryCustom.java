@@ -0,0 +1,16 @@
+package com.senabo.domain.jobrun.repository;
+
+import com.senabo.domain.jobrun.entity.JobRun;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface JobRunRepositoryCustom {
+    boolean existsLeasedRun(String job, int shardFrom, LocalDateTime tickTime, LocalDateTime now);
+
+    List<JobRun> findResumable(LocalDateTime since, LocalDateTime now);
+
+    long deleteFinishedBefore(LocalDateTime before, LocalDateTime now);
+
+    boolean convertOrdinalStatus();
+}
@@ -0,0 +1,85 @@
+package com.senabo.domain.jobrun.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.senabo.domain.jobrun.entity.JobRun;
+import com.senabo.domain.jobrun.entity.JobRunStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.senabo.domain.jobrun.entity.QJobRun.jobRun;
+import static com.senabo.domain.jobrun.entity.QJobRunChunk.jobRunChunk;
+
+@RequiredArgsConstructor
+public class JobRunRepositoryImpl implements JobRunRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 같은 job, 구간의 다른 tick 실행이 아직 lease 를 잡고 있는지
+    @Override
+    public boolean existsLeasedRun(String job, int shardFrom, LocalDateTime tickTime, LocalDateTime now) {
+        return queryFactory
+                .selectOne()
+                .from(jobRun)
+                .where(
+                        jobRun.job.eq(job),
+                        jobRun.shardFrom.eq(shardFrom),
+                        jobRun.tickTime.ne(tickTime),
+                        jobRun.status.eq(JobRunStatus.RUNNING),
+                        jobRun.leaseUntil.gt(now)
+                )
+                .fetchFirst() != null;
+    }
+
+    // 끝나지 않았고 lease 도 풀린 실행 (재시작 시 이어서 실행)
+    @Override
+    public List<JobRun> findResumable(LocalDateTime since, LocalDateTime now) {
+        return queryFactory
+                .selectFrom(jobRun)
+                .where(
+                        jobRun.status.ne(JobRunStatus.COMPLETED),
+                        jobRun.tickTime.goe(since),
+                        jobRun.leaseUntil.isNull().or(jobRun.leaseUntil.loe(now))
+                )
+                .orderBy(jobRun.tickTime.asc(), jobRun.shardFrom.asc())
+                .fetch();
+    }
+
+    // before 이전 tick 의 실행 중 lease 가 풀린 실행과 그 청크 구간 삭제
+    @Override
+    public long deleteFinishedBefore(LocalDateTime before, LocalDateTime now) {
+        queryFactory
+                .delete(jobRunChunk)
+                .where(jobRunChunk.createTime.lt(before))
+                .execute();
+        return queryFactory
+                .delete(jobRun)
+                .where(
+                        jobRun.tickTime.lt(before),
+                        jobRun.leaseUntil.isNull().or(jobRun.leaseUntil.loe(now))
+                )
+                .execute();
+    }
+
+    // status 가 ordinal(숫자 컬럼)로 저장된 테이블이면 이름(varchar)으로 변환, 변환했으면 true
+    @Override
+    public boolean convertOrdinalStatus() {
+        List<String> columns = jdbcTemplate.queryForList("""
+                select column_name from information_schema.columns
+                where table_schema = database() and table_name = 'job_run'
+                  and column_name = 'status' and data_type in ('tinyint', 'smallint', 'int', 'bigint')
+                """, String.class);
+        if (columns.isEmpty()) return false;
+
+        StringBuilder names = new StringBuilder("case status");
+        for (JobRunStatus value : JobRunStatus.values()) {
+            names.append(" when '").append(value.ordinal()).append("' then '").append(value.name()).append("'");
+        }
+        jdbcTemplate.execute("alter table job_run modify status varchar(255)");
+        jdbcTemplate.update("update job_run set status = " + names + " end where status is not null");
+        return true;
+    }
+}
@@ -0,0 +1,129 @@
+package com.senabo.domain.jobrun.service;
+
+import com.senabo.common.schedule.ShardRange;
+import com.senabo.domain.jobrun.entity.JobRun;
+import com.senabo.domain.jobrun.entity.JobRunChunk;
+import com.senabo.domain.jobrun.entity.JobRunStatus;
+import com.senabo.domain.jobrun.repository.JobRunChunkRepository;
+import com.senabo.domain.jobrun.repository.JobRunRepository;
+import com.senabo.exception.message.ExceptionMessage;
+import com.senabo.exception.model.DataException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class JobRunService {
+    private final JobRunRepository jobRunRepository;
+    private final JobRunChunkRepository jobRunChunkRepository;
+    private final String owner = UUID.randomUUID().toString();
+
+    // 단위: ms
+    @Value("${scheduler.job-run.lease-ttl}")
+    private long leaseTtl;
+
+    // 실행 등록: 이미 완료된 실행이면 empty, 다른 실행이 lease 를 잡고 있으면 예외
+    @Transactional
+    public Optional<JobRun> start(String job, LocalDateTime tickTime, ShardRange shard) {
+        LocalDateTime now = LocalDateTime.now();
+        if (jobRunRepository.existsLeasedRun(job, shard.from(), tickTime, now)) {
+            throw new DataException(ExceptionMessage.JOB_RUN_LOCKED);
+        }
+
+        Optional<JobRun> runOptional = jobRunRepository.findByJobAndTickTimeAndShardFrom(job, tickTime, shard.from());
+        JobRun run;
+        if (runOptional.isPresent()) {
+            run = runOptional.get();
+            if (run.getStatus() == JobRunStatus.COMPLETED) return Optional.empty();
+            if (run.isLeased(now)) throw new DataException(ExceptionMessage.JOB_RUN_LOCKED);
+        } else {
+            run = new JobRun(job, tickTime, shard);
+        }
+        run.claim(owner, now, leaseUntil(now));
+        try {
+            jobRunRepository.saveAndFlush(run);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 실행을 먼저 등록한 경우
+            throw new DataException(ExceptionMessage.JOB_RUN_LOCKED);
+        }
+        if (run.getLastMemberId() > 0) {
+            log.info(job + " " + tickTime + " 체크포인트부터 이어서 실행: member id " + run.getLastMemberId());
+        }
+        return Optional.of(run);
+    }
+
+    // 처리 완료한 마지막 회원 id 를 기록하고 lease 연장
+    @Transactional
+    public void checkpoint(Long runId, Long lastMemberId, int processed) {
+        LocalDateTime now = LocalDateTime.now();
+        jobRunRepository.findById(runId).ifPresent(run -> run.checkpoint(lastMemberId, processed, leaseUntil(now)));
+    }
+
+    // 체크포인트는 올리지 않고 lease 만 연장 (앞선 청크에 실패한 회원이 있는 경우)
+    @Transactional
+    public void renewLease(Long runId) {
+        LocalDateTime now = LocalDateTime.now();
+        jobRunRepository.findById(runId).ifPresent(run -> run.renewLease(leaseUntil(now)));
+    }
+
+    // 청크 트랜잭션에 참여해서 커밋한 회원 id 구간을 함께 기록
+    @Transactional
+    public void recordChunk(Long runId, Long firstMemberId, Long lastMemberId) {
+        jobRunChunkRepository.save(new JobRunChunk(runId, firstMemberId, lastMemberId));
+    }
+
+    public List<JobRunChunk> findCommittedChunks(Long runId, Long lastMemberId) {
+        return jobRunChunkRepository.findCommittedAfter(runId, lastMemberId);
+    }
+
+    @Transactional
+    public void complete(Long runId) {
+        jobRunChunkRepository.deleteByJobRun(runId);
+        jobRunRepository.findById(runId).ifPresent(run -> {
+            run.complete(LocalDateTime.now());
+            log.info(run.getJob() + " " + run.getTickTime() + " 실행 완료: " + run.getProcessedCount() + "명, " + run.getChunkCount() + "청크");
+        });
+    }
+
+    @Transactional
+    public void fail(Long runId) {
+        jobRunRepository.findById(runId).ifPresent(run -> run.fail(LocalDateTime.now()));
+    }
+
+    public List<JobRun> findResumable(LocalDateTime since) {
+        return jobRunRepository.findResumable(since, LocalDateTime.now());
+    }
+
+    @Transactional
+    public long purgeBefore(LocalDateTime before) {
+        return jobRunRepository.deleteFinishedBefore(before, LocalDateTime.now());
+    }
+
+    // 배포 직후 ordinal 로 저장된 기존 실행 기록의 status 를 이름으로 변환
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional
+    public void convertOrdinalStatus() {
+        if (jobRunRepository.convertOrdinalStatus()) log.info("스케줄러 실행 기록 status 컬럼 변환");
+    }
+
+    private LocalDateTime leaseUntil(LocalDateTime now) {
+        return now.plus(leaseTtl, ChronoUnit.MILLIS);
+    }
+}
@@ -0,0 +1,24 @@
+package com.senabo.domain.member.dto;
+
+import com.senabo.domain.member.entity.Member;
+
+// 스케줄러에서 사용하는 회원 스냅샷 (엔티티를 로딩하지 않는 읽기 전용 모델)
+public record MemberTick(
+        Long id,
+        String email,
+        String dogName,
+        String deviceToken,
+        int stressLevel,
+        int affection
+) {
+    public static MemberTick from(Member member) {
+        return new MemberTick(
+                member.getId(),
+                member.getEmail(),
+                member.getDogName(),
+                member.getDeviceToken(),
+                member.getStressLevel(),
+                member.getAffection()
+        );
+    }
+}
@@ -7,13 +7,16 @@ import com.senabo.domain.brushingTeeth.entity.BrushingTeeth;
 import com.senabo.domain.communication.entity.Communication;
 import com.senabo.domain.disease.entity.Disease;
 import com.senabo.domain.emergency.entity.Emergency;
+import com.senabo.domain.emergency.entity.EmergencyPlan;
 import com.senabo.domain.expense.entity.Expense;
 import com.senabo.domain.feed.entity.Feed;
+import com.senabo.domain.feed.entity.FeedSchedule;
 import com.senabo.domain.member.dto.request.TotalTimeRequest;
 import com.senabo.domain.member.dto.request.UpdateDeviceTokenRequest;
 import com.senabo.domain.member.dto.request.UpdateInfoRequest;
 import com.senabo.domain.member.dto.request.UpdateLocateRequest;
 import com.senabo.domain.report.entity.Report;
+import com.senabo.domain.report.entity.ReportAccumulator;
 import com.senabo.domain.stress.entity.Stress;
 import com.senabo.domain.walk.entity.Walk;
 import jakarta.persistence.*;
@@ -23,6 +26,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -32,6 +36,10 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_member_next_report_date", columnList = "next_report_date"),
+        @Index(name = "idx_member_device_token", columnList = "device_token")
+})
 public class Member extends BaseEntity  {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -77,6 +85,10 @@ public class Member extends BaseEntity  {
     @Column(name = "complete")
     private boolean complete;
 
+    // 진행 중인 주간 리포트의 마감일 (리포트 시작일 + 7일)
+    @Column(name = "next_report_date")
+    private LocalDate nextReportDate;
+
     @ElementCollection(fetch = FetchType.EAGER)
     @Builder.Default
     @Enumerated(EnumType.STRING)
@@ -103,6 +115,9 @@ public class Member extends BaseEntity  {
     @OneToMany(mappedBy = "memberId", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Feed> feedList;
 
+    @OneToMany(mappedBy = "memberId", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<FeedSchedule> feedScheduleList;
+
     @OneToMany(mappedBy = "memberId", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Stress> stressList;
 
@@ -112,9 +127,15 @@ public class Member extends BaseEntity  {
     @OneToMany(mappedBy = "memberId", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Report> reportList;
 
+    @OneToMany(mappedBy = "memberId", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<ReportAccumulator> reportAccumulatorList;
+
     @OneToMany(mappedBy = "memberId", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Emergency> emergencyList;
 
+    @OneToMany(mappedBy = "memberId", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<EmergencyPlan> emergencyPlanList;
+
 
 
     public Member(String dogName, String email, Species species, Sex sex, BigDecimal houseLatitude, BigDecimal houseLongitude,String deviceToken) {
@@ -146,6 +167,10 @@ public class Member extends BaseEntity  {
         this.deviceToken = request.deviceToken();
     }
 
+    public void updateNextReportDate(LocalDate nextReportDate) {
+        this.nextReportDate = nextReportDate;
+    }
+
     public void complete(){
         this.complete = true;
     }
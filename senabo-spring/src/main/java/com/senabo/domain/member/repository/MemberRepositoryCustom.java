@@ -1,14 +1,41 @@
 package com.senabo.domain.member.repository;
 
+import com.senabo.common.schedule.ShardRange;
+import com.senabo.domain.member.dto.MemberTick;
 import com.senabo.domain.member.entity.Member;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public interface MemberRepositoryCustom {
-    List<Member> findAllMemberNonComplete();
+    List<Member> findMemberChunk(Long lastId, int size, boolean nonCompleteOnly, ShardRange shard);
+
+    List<MemberTick> findMemberTickChunk(Long lastId, int size, ShardRange shard);
+
+    List<MemberTick> findDueMemberTickChunk(Long lastId, int size, ShardRange shard, LocalDateTime tickTime);
+
+    List<Member> findReportDueMemberChunk(Long lastId, int size, ShardRange shard, LocalDate today);
+
+    List<MemberTick> findReportNotifyMemberTickChunk(Long lastId, int size, ShardRange shard, LocalDate nextReportDate);
+
+    Member getReference(Long id);
+
+    void clearPersistenceContext();
 
     long updateStressLevel(String email, int score);
 
+    long addStressLevels(Map<Long, Integer> deltas);
+
     long updateAffection(String email, int score);
 
+    long updateComplete(List<Long> memberIds);
+
+    long updateNextReportDate(List<Long> memberIds, LocalDate nextReportDate);
+
+    long clearDeviceTokens(List<String> tokens);
+
+    int backfillNextReportDate();
+
 }
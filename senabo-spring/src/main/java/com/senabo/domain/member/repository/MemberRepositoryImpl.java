@@ -1,13 +1,28 @@
 package com.senabo.domain.member.repository;
 
 
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.senabo.common.schedule.ShardRange;
+import com.senabo.domain.member.dto.MemberTick;
 import com.senabo.domain.member.entity.Member;
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
+import static com.senabo.domain.emergency.entity.QEmergencyPlan.emergencyPlan;
+import static com.senabo.domain.feed.entity.QFeedSchedule.feedSchedule;
 import static com.senabo.domain.member.entity.QMember.member;
 
 
@@ -15,16 +30,132 @@ import static com.senabo.domain.member.entity.QMember.member;
 @AllArgsConstructor
 public class MemberRepositoryImpl implements MemberRepositoryCustom {
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
 
 
+    // id 기준 keyset 페이징: lastId 다음부터 size 만큼 조회
     @Override
-    public List<Member> findAllMemberNonComplete() {
+    public List<Member> findMemberChunk(Long lastId, int size, boolean nonCompleteOnly, ShardRange shard) {
         return queryFactory
                 .selectFrom(member)
-                .where(member.complete.isFalse())
+                .where(
+                        member.id.gt(lastId),
+                        nonCompleteOnly ? member.complete.isFalse() : null,
+                        inShard(shard)
+                )
+                .orderBy(member.id.asc())
+                .limit(size)
                 .fetch();
     }
 
+    // 스케줄러가 사용하는 컬럼만 projection 으로 조회 (roles, 연관관계 로딩 없음)
+    @Override
+    public List<MemberTick> findMemberTickChunk(Long lastId, int size, ShardRange shard) {
+        return queryFactory
+                .select(Projections.constructor(MemberTick.class,
+                        member.id,
+                        member.email,
+                        member.dogName,
+                        member.deviceToken,
+                        member.stressLevel,
+                        member.affection))
+                .from(member)
+                .where(
+                        member.id.gt(lastId),
+                        member.complete.isFalse(),
+                        inShard(shard)
+                )
+                .orderBy(member.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    // 배식 스케줄 또는 돌발상황 계획의 due 가 지난 회원만 조회 (각 due_time 인덱스)
+    @Override
+    public List<MemberTick> findDueMemberTickChunk(Long lastId, int size, ShardRange shard, LocalDateTime tickTime) {
+        return queryFactory
+                .select(Projections.constructor(MemberTick.class,
+                        member.id,
+                        member.email,
+                        member.dogName,
+                        member.deviceToken,
+                        member.stressLevel,
+                        member.affection))
+                .from(member)
+                .where(
+                        member.id.gt(lastId),
+                        member.complete.isFalse(),
+                        member.id.in(JPAExpressions
+                                        .select(feedSchedule.memberId.id)
+                                        .from(feedSchedule)
+                                        .where(feedSchedule.feedDueTime.loe(tickTime).or(feedSchedule.poopDueTime.loe(tickTime))))
+                                .or(member.id.in(JPAExpressions
+                                        .select(emergencyPlan.memberId.id)
+                                        .from(emergencyPlan)
+                                        .where(emergencyPlan.nextDueTime.loe(tickTime)))),
+                        inShard(shard)
+                )
+                .orderBy(member.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    // 주간 리포트 마감일이 지난 미완료 회원 (next_report_date 인덱스)
+    @Override
+    public List<Member> findReportDueMemberChunk(Long lastId, int size, ShardRange shard, LocalDate today) {
+        return queryFactory
+                .selectFrom(member)
+                .where(
+                        member.id.gt(lastId),
+                        member.nextReportDate.loe(today),
+                        member.complete.isFalse(),
+                        inShard(shard)
+                )
+                .orderBy(member.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    // 마감일이 nextReportDate 로 옮겨진(= 오늘 리포트가 마감된) 알림 대상 회원
+    @Override
+    public List<MemberTick> findReportNotifyMemberTickChunk(Long lastId, int size, ShardRange shard, LocalDate nextReportDate) {
+        return queryFactory
+                .select(Projections.constructor(MemberTick.class,
+                        member.id,
+                        member.email,
+                        member.dogName,
+                        member.deviceToken,
+                        member.stressLevel,
+                        member.affection))
+                .from(member)
+                .where(
+                        member.id.gt(lastId),
+                        member.nextReportDate.eq(nextReportDate),
+                        member.deviceToken.isNotNull(),
+                        inShard(shard)
+                )
+                .orderBy(member.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    // id % BUCKETS 가 샤드 구간에 속하는 회원만
+    private BooleanExpression inShard(ShardRange shard) {
+        if (shard == null || shard.isAll()) return null;
+        return member.id.mod((long) ShardRange.BUCKETS).between((long) shard.from(), (long) shard.to());
+    }
+
+    @Override
+    public Member getReference(Long id) {
+        return entityManager.getReference(Member.class, id);
+    }
+
+    @Override
+    public void clearPersistenceContext() {
+        entityManager.clear();
+    }
+
     @Override
     public long updateStressLevel(String email, int score){
         return queryFactory
@@ -34,6 +165,66 @@ public class MemberRepositoryImpl implements MemberRepositoryCustom {
                 .execute();
     }
 
+    // 회원별 스트레스 변화량을 CASE 식 하나로 현재 값에 더하고 0 ~ 100 으로 보정
+    @Override
+    public long addStressLevels(Map<Long, Integer> deltas) {
+        if (deltas.isEmpty()) return 0;
+        CaseBuilder.Cases<Integer, NumberExpression<Integer>> cases = null;
+        for (Map.Entry<Long, Integer> entry : deltas.entrySet()) {
+            cases = cases == null
+                    ? new CaseBuilder().when(member.id.eq(entry.getKey())).then(entry.getValue())
+                    : cases.when(member.id.eq(entry.getKey())).then(entry.getValue());
+        }
+        return queryFactory
+                .update(member)
+                .set(member.stressLevel, Expressions.numberTemplate(Integer.class,
+                        "least(100, greatest(0, {0} + {1}))", member.stressLevel, cases.otherwise(0)))
+                .where(member.id.in(deltas.keySet()))
+                .execute();
+    }
+
+    @Override
+    public long updateComplete(List<Long> memberIds) {
+        if (memberIds.isEmpty()) return 0;
+        return queryFactory
+                .update(member)
+                .set(member.complete, true)
+                .where(member.id.in(memberIds))
+                .execute();
+    }
+
+    @Override
+    public long updateNextReportDate(List<Long> memberIds, LocalDate nextReportDate) {
+        if (memberIds.isEmpty()) return 0;
+        return queryFactory
+                .update(member)
+                .set(member.nextReportDate, nextReportDate)
+                .where(member.id.in(memberIds))
+                .execute();
+    }
+
+    // 무효 토큰을 가진 회원의 토큰 제거 (device_token 인덱스)
+    @Override
+    public long clearDeviceTokens(List<String> tokens) {
+        if (tokens.isEmpty()) return 0;
+        return queryFactory
+                .update(member)
+                .setNull(member.deviceToken)
+                .where(member.deviceToken.in(tokens))
+                .execute();
+    }
+
+    // 마감일이 없는 회원은 마지막 리포트 시작일 + 7일로 채움
+    @Override
+    public int backfillNextReportDate() {
+        return jdbcTemplate.update("""
+                update member m
+                join report r on r.id = (select max(l.id) from report l where l.member_id = m.id)
+                set m.next_report_date = date_add(date(r.create_time), interval 7 day)
+                where m.next_report_date is null
+                """);
+    }
+
     @Override
     public long updateAffection(String email, int score){
         return queryFactory
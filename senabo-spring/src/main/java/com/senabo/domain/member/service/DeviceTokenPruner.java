@@ -0,0 +1,32 @@
+package com.senabo.domain.member.service;
+
+import com.senabo.config.firebase.InvalidTokenEvent;
+import com.senabo.domain.member.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// FCM 배치 결과에서 무효로 분류된 토큰을 회원에서 한 번의 update 로 제거
+// 토큰이 없는 회원은 스케줄러 알림 대상에서 빠지므로 죽은 기기로의 전송이 멈춤
+@Slf4j
+@Component
+public class DeviceTokenPruner {
+    private final MemberRepository memberRepository;
+    private final Counter pruned;
+
+    public DeviceTokenPruner(MemberRepository memberRepository, MeterRegistry meterRegistry) {
+        this.memberRepository = memberRepository;
+        this.pruned = Counter.builder("fcm.tokens.pruned").register(meterRegistry);
+    }
+
+    @EventListener
+    @Transactional
+    public void prune(InvalidTokenEvent event) {
+        long count = memberRepository.clearDeviceTokens(event.tokens());
+        pruned.increment(count);
+        log.info("무효 FCM 토큰 제거: " + count + "건");
+    }
+}
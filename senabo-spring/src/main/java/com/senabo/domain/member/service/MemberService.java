@@ -1,34 +1,49 @@
 package com.senabo.domain.member.service;
 
 
+import com.senabo.common.schedule.ShardRange;
 import com.senabo.config.firebase.FCMMessage;
 import com.senabo.config.firebase.FCMService;
+import com.senabo.config.firebase.FCMType;
 import com.senabo.config.security.jwt.TokenInfo;
 import com.senabo.config.security.jwt.TokenProvider;
+import com.senabo.domain.member.dto.MemberTick;
 import com.senabo.domain.member.dto.request.*;
 import com.senabo.domain.member.dto.response.*;
 import com.senabo.domain.member.entity.Member;
 import com.senabo.domain.member.entity.Role;
 import com.senabo.domain.member.repository.MemberRepository;
+import com.senabo.domain.emergency.service.EmergencyPlanService;
 import com.senabo.domain.report.entity.Report;
 import com.senabo.domain.report.repository.ReportRepository;
+import com.senabo.domain.report.service.ReportCache;
 import com.senabo.exception.message.ExceptionMessage;
 import com.senabo.exception.model.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -41,10 +56,18 @@ public class MemberService {
     private final RefreshTokenService refreshTokenService;
     private final TokenProvider tokenProvider;
     private final FCMService fcmService;
+    private final ReportCache reportCache;
+    private final EmergencyPlanService emergencyPlanService;
 
+    @Value("${scheduler.chunk-size}")
+    private int chunkSize;
+
+    @Transactional
     public SignUpResponse signUp(SignUpRequest request) {
-        Member member = memberRepository.save(
-                new Member(request.dogName(), request.email(), request.species(), request.sex(), request.houseLatitude(), request.houseLongitude(), request.deviceToken()));
+        Member newMember = new Member(request.dogName(), request.email(), request.species(), request.sex(), request.houseLatitude(), request.houseLongitude(), request.deviceToken());
+        // 1주차 리포트 마감일
+        newMember.updateNextReportDate(LocalDate.now().plusDays(7));
+        Member member = memberRepository.save(newMember);
 
         reportRepository.save(
                 new Report(member, 1, 0, 50)
@@ -55,6 +78,8 @@ public class MemberService {
         } catch (DataIntegrityViolationException e) {
             throw new UserAuthException(String.valueOf(ExceptionMessage.FAIL_SAVE_DATA));
         }
+        // 1주차 돌발상황 계획
+        emergencyPlanService.createPlans(List.of(member), LocalDate.now());
 
         List<GrantedAuthority> roles = new ArrayList<>();
         roles.add(new SimpleGrantedAuthority(Role.ROLE_USER.toString()));
@@ -73,6 +98,7 @@ public class MemberService {
         try {
             refreshTokenService.delValues(request.refreshToken());
             memberRepository.deleteByEmail(email);
+            reportCache.evictMember(email);
         } catch (DataIntegrityViolationException e) {
             throw new UserAuthException(ExceptionMessage.FAIL_DELETE_DATA);
         }
@@ -87,6 +113,8 @@ public class MemberService {
     @Transactional
     public MemberResponse updateInfo(String email, UpdateInfoRequest request) {
         Member member = findByEmail(email);
+        // 리포트 응답에 dogName 이 들어가므로 이름이 바뀌면 캐시 무효화
+        if (!Objects.equals(member.getDogName(), request.dogName())) reportCache.evictMember(email);
         member.update(request);
         return MemberResponse.from(member);
     }
@@ -164,18 +192,77 @@ public class MemberService {
     }
 
 
-    public List<Member> findAllMemberNonComplete() {
-        return memberRepository.findAllMemberNonComplete();
+    // 샤드 구간에서 lastId 다음 미완료 회원을 chunkSize 단위로 나누어 처리 (스케줄러용)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void forEachMemberNonCompleteChunk(ShardRange shard, Long lastId, Consumer<List<Member>> consumer) {
+        forEachMemberChunk(lastId, id -> memberRepository.findMemberChunk(id, chunkSize, true, shard), consumer);
+    }
+
+    // 샤드 구간에서 lastId 다음 전체 회원을 chunkSize 단위로 나누어 처리 (스케줄러용)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void forEachMemberChunk(ShardRange shard, Long lastId, Consumer<List<Member>> consumer) {
+        forEachMemberChunk(lastId, id -> memberRepository.findMemberChunk(id, chunkSize, false, shard), consumer);
+    }
+
+    // 주간 리포트 마감일이 today 이전인 미완료 회원만 (스케줄러용)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void forEachReportDueMemberChunk(LocalDate today, ShardRange shard, Long lastId, Consumer<List<Member>> consumer) {
+        forEachMemberChunk(lastId, id -> memberRepository.findReportDueMemberChunk(id, chunkSize, shard, today), consumer);
+    }
+
+    // 마감일이 nextReportDate 인(오늘 리포트가 마감된) 알림 대상 회원만 (스케줄러용)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void forEachReportNotifyMemberTickChunk(LocalDate nextReportDate, ShardRange shard, Long lastId, Consumer<List<MemberTick>> consumer) {
+        forEachMemberTickChunk(lastId, id -> memberRepository.findReportNotifyMemberTickChunk(id, chunkSize, shard, nextReportDate), consumer);
+    }
+
+    // 샤드 구간에서 lastId 다음 미완료 회원 스냅샷(MemberTick)을 chunkSize 단위로 나누어 처리 (스케줄러용)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void forEachMemberTickChunk(ShardRange shard, Long lastId, Consumer<List<MemberTick>> consumer) {
+        forEachMemberTickChunk(lastId, id -> memberRepository.findMemberTickChunk(id, chunkSize, shard), consumer);
     }
 
+    // 배식 스케줄 due 가 tickTime 이전인 회원만 (스케줄러용)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void forEachDueMemberTickChunk(LocalDateTime tickTime, ShardRange shard, Long lastId, Consumer<List<MemberTick>> consumer) {
+        forEachMemberTickChunk(lastId, id -> memberRepository.findDueMemberTickChunk(id, chunkSize, shard, tickTime), consumer);
+    }
+
+    private void forEachMemberTickChunk(Long lastId, Function<Long, List<MemberTick>> fetcher, Consumer<List<MemberTick>> consumer) {
+        while (true) {
+            List<MemberTick> chunk = fetcher.apply(lastId);
+            if (chunk.isEmpty()) return;
+
+            consumer.accept(chunk);
+            lastId = chunk.get(chunk.size() - 1).id();
+            if (chunk.size() < chunkSize) return;
+        }
+    }
+
+    private void forEachMemberChunk(Long lastId, Function<Long, List<Member>> fetcher, Consumer<List<Member>> consumer) {
+        while (true) {
+            List<Member> chunk = fetcher.apply(lastId);
+            if (chunk.isEmpty()) return;
+
+            consumer.accept(chunk);
+            lastId = chunk.get(chunk.size() - 1).getId();
+
+            // 처리가 끝난 chunk 는 영속성 컨텍스트에서 제거해 힙 사용량을 일정하게 유지
+            memberRepository.clearPersistenceContext();
+            if (chunk.size() < chunkSize) return;
+        }
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void fcmTest() {
         log.info("FCM 테스트 시작");
-        List<Member> allMember = findAllMemberNonComplete();
-        List<FCMMessage> testList = allMember.stream()
-                .filter(member -> member.getDeviceToken() != null)
-                .map(member -> fcmService.makeMessage("세나보 테스트", "테스트입니다.", member.getDeviceToken()))
-                .toList();
-        fcmService.sendFCM(testList);
+        forEachMemberNonCompleteChunk(ShardRange.ALL, 0L, chunk -> {
+            List<FCMMessage> testList = chunk.stream()
+                    .filter(member -> member.getDeviceToken() != null)
+                    .map(member -> fcmService.makeMessage(FCMType.TEST, "세나보 테스트", "테스트입니다.", member.getDeviceToken()))
+                    .toList();
+            fcmService.sendFCM(testList);
+        });
     }
 
     public void tokenCheckExcpetion() {
@@ -193,10 +280,6 @@ public class MemberService {
         return MemberResponse.from(member);
     }
 
-    public List<Member> findAllMember(){
-        return memberRepository.findAll();
-    }
-
     @Transactional
     public MemberResponse updateLocate(String email, UpdateLocateRequest request) {
         Member member = findByEmail(email);
@@ -216,11 +299,40 @@ public class MemberService {
         memberRepository.updateStressLevel(email, score);
     }
 
+    @Transactional
+    public void addStressLevels(Map<Long, Integer> deltas) {
+        memberRepository.addStressLevels(deltas);
+    }
+
+    @Transactional
+    public void completeMembers(List<Long> memberIds) {
+        memberRepository.updateComplete(memberIds);
+    }
+
+    @Transactional
+    public void updateNextReportDate(List<Long> memberIds, LocalDate nextReportDate) {
+        memberRepository.updateNextReportDate(memberIds, nextReportDate);
+    }
+
+    // 배포 직후 기존 회원의 리포트 마감일 생성 (돌발상황 계획 backfill 보다 먼저)
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional
+    public void backfillNextReportDate() {
+        int count = memberRepository.backfillNextReportDate();
+        log.info("리포트 마감일 생성: " + count + "건");
+    }
+
     @Transactional
     public void updateAffection(String email, int score){
         memberRepository.updateAffection(email, score);
     }
 
+    // 조회 없이 연관관계 설정용 프록시를 반환
+    public Member getReference(Long id) {
+        return memberRepository.getReference(id);
+    }
+
     public Member findById(Long id){
        return memberRepository.findById(id).orElseThrow(() -> new UserException(ExceptionMessage.USER_NOT_FOUND));
     }
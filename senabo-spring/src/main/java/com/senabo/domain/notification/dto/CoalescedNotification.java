@@ -0,0 +1,13 @@
+package com.senabo.domain.notification.dto;
+
+import com.senabo.config.firebase.FCMMessage;
+import com.senabo.domain.notification.entity.NotificationOutbox;
+
+import java.util.List;
+
+// 같은 기기로 묶어 보낼 outbox 행들과 대표 메시지
+public record CoalescedNotification(
+        List<NotificationOutbox> outboxes,
+        FCMMessage message
+) {
+}
@@ -0,0 +1,14 @@
+package com.senabo.domain.notification.dto;
+
+import com.senabo.domain.notification.entity.OutboxStatus;
+
+import java.time.LocalDateTime;
+
+// 전송 실패한 outbox 행의 다음 상태 (PENDING 이면 nextAttemptTime 에 재시도)
+public record OutboxFailure(
+        Long id,
+        OutboxStatus status,
+        LocalDateTime nextAttemptTime,
+        String error
+) {
+}
@@ -0,0 +1,73 @@
+package com.senabo.domain.notification.entity;
+
+import com.senabo.common.audit.BaseEntity;
+import com.senabo.config.firebase.FCMType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 보낼 푸시 알림 (알림을 만든 변경과 같은 트랜잭션에서 저장)
+// 디스패처가 claim 한 행만 전송하고, 실패하면 attempts 에 따라 nextAttemptTime 을 뒤로 미룸
+// idempotencyKey 가 같은 알림은 한 번만 저장 (청크 재시도, 중단된 job 재개)
+@Getter
+@Entity
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_notification_outbox_idempotency_key", columnNames = "idempotency_key")
+}, indexes = {
+        @Index(name = "idx_notification_outbox_status_next_attempt", columnList = "status, next_attempt_time")
+})
+public class NotificationOutbox extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false, unique = true)
+    private Long id;
+
+    @Column(name = "idempotency_key", length = 36, nullable = false)
+    private String idempotencyKey;
+
+    @Column(name = "token", nullable = false)
+    private String token;
+
+    @Column(name = "title")
+    private String title;
+
+    @Column(name = "body")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type")
+    private FCMType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private OutboxStatus status;
+
+    @Column(name = "attempts")
+    private int attempts;
+
+    @Column(name = "next_attempt_time", columnDefinition = "datetime")
+    private LocalDateTime nextAttemptTime;
+
+    @Column(name = "claim_owner")
+    private String claimOwner;
+
+    @Column(name = "claim_until", columnDefinition = "datetime")
+    private LocalDateTime claimUntil;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    public NotificationOutbox(String idempotencyKey, String token, String title, String body, FCMType type, LocalDateTime nextAttemptTime) {
+        this.idempotencyKey = idempotencyKey;
+        this.token = token;
+        this.title = title;
+        this.body = body;
+        this.type = type;
+        this.status = OutboxStatus.PENDING;
+        this.nextAttemptTime = nextAttemptTime;
+    }
+}
@@ -0,0 +1,7 @@
+package com.senabo.domain.notification.entity;
+
+public enum OutboxStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
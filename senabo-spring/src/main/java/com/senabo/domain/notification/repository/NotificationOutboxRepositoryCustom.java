@@ -0,0 +1,28 @@
+package com.senabo.domain.notification.repository;
+
+import com.senabo.config.firebase.FCMType;
+import com.senabo.domain.notification.dto.OutboxFailure;
+import com.senabo.domain.notification.entity.NotificationOutbox;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationOutboxRepositoryCustom {
+    int insertIgnoreAll(List<NotificationOutbox> outboxes, LocalDateTime now);
+
+    int claim(String claimOwner, LocalDateTime now, LocalDateTime claimUntil, int size,
+              Collection<FCMType> types, boolean includeUntyped);
+
+    long claimSameTokens(String claimOwner, Collection<String> tokens, LocalDateTime now, LocalDateTime claimUntil);
+
+    List<NotificationOutbox> findClaimed(String claimOwner);
+
+    int markSent(List<Long> ids, LocalDateTime now);
+
+    int markFailed(List<OutboxFailure> failures, LocalDateTime now);
+
+    long deleteSentBefore(LocalDateTime before);
+
+    int convertOrdinalColumns();
+}
@@ -0,0 +1,151 @@
+package com.senabo.domain.notification.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.senabo.config.firebase.FCMType;
+import com.senabo.domain.notification.dto.OutboxFailure;
+import com.senabo.domain.notification.entity.NotificationOutbox;
+import com.senabo.domain.notification.entity.OutboxStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static com.senabo.domain.notification.entity.QNotificationOutbox.notificationOutbox;
+
+@RequiredArgsConstructor
+public class NotificationOutboxRepositoryImpl implements NotificationOutboxRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    // idempotency_key 가 이미 있으면 건너뜀
+    @Override
+    public int insertIgnoreAll(List<NotificationOutbox> outboxes, LocalDateTime now) {
+        if (outboxes.isEmpty()) return 0;
+        jdbcTemplate.batchUpdate("""
+                insert ignore into notification_outbox (idempotency_key, token, title, body, type, status, attempts,
+                                                        next_attempt_time, create_time, update_time)
+                values (?, ?, ?, ?, ?, ?, 0, ?, ?, ?)
+                """, outboxes, outboxes.size(), (ps, outbox) -> {
+            ps.setString(1, outbox.getIdempotencyKey());
+            ps.setString(2, outbox.getToken());
+            ps.setString(3, outbox.getTitle());
+            ps.setString(4, outbox.getBody());
+            ps.setString(5, outbox.getType() == null ? null : outbox.getType().name());
+            ps.setString(6, OutboxStatus.PENDING.name());
+            ps.setObject(7, outbox.getNextAttemptTime());
+            ps.setObject(8, now);
+            ps.setObject(9, now);
+        });
+        return outboxes.size();
+    }
+
+    // 재시도 시각이 된 PENDING 행 중 types 알림을 size 만큼 claimOwner 로 선점 (claim 이 만료된 행 포함)
+    // includeUntyped 면 종류가 없는 행도 포함
+    @Override
+    public int claim(String claimOwner, LocalDateTime now, LocalDateTime claimUntil, int size,
+                     Collection<FCMType> types, boolean includeUntyped) {
+        List<Object> params = new ArrayList<>(List.of(claimOwner, claimUntil, OutboxStatus.PENDING.name(), now, now));
+        types.forEach(type -> params.add(type.name()));
+        params.add(size);
+        String typeIn = types.isEmpty() ? "false" : "type in (" + String.join(", ", Collections.nCopies(types.size(), "?")) + ")";
+        return jdbcTemplate.update("""
+                update notification_outbox
+                set claim_owner = ?, claim_until = ?
+                where status = ? and next_attempt_time <= ? and (claim_until is null or claim_until < ?)
+                  and (%s%s)
+                order by next_attempt_time
+                limit ?
+                """.formatted(typeIn, includeUntyped ? " or type is null" : ""), params.toArray());
+    }
+
+    // 같은 기기로 보낼 나머지 PENDING 행도 함께 선점 (batch 경계에서 나뉘지 않도록)
+    @Override
+    public long claimSameTokens(String claimOwner, Collection<String> tokens, LocalDateTime now, LocalDateTime claimUntil) {
+        if (tokens.isEmpty()) return 0;
+        return queryFactory
+                .update(notificationOutbox)
+                .set(notificationOutbox.claimOwner, claimOwner)
+                .set(notificationOutbox.claimUntil, claimUntil)
+                .where(notificationOutbox.token.in(tokens),
+                        notificationOutbox.status.eq(OutboxStatus.PENDING),
+                        notificationOutbox.nextAttemptTime.loe(now),
+                        notificationOutbox.claimUntil.isNull().or(notificationOutbox.claimUntil.lt(now)))
+                .execute();
+    }
+
+    @Override
+    public List<NotificationOutbox> findClaimed(String claimOwner) {
+        return queryFactory
+                .selectFrom(notificationOutbox)
+                .where(notificationOutbox.claimOwner.eq(claimOwner),
+                        notificationOutbox.status.eq(OutboxStatus.PENDING))
+                .orderBy(notificationOutbox.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public int markSent(List<Long> ids, LocalDateTime now) {
+        if (ids.isEmpty()) return 0;
+        jdbcTemplate.batchUpdate("""
+                update notification_outbox
+                set status = ?, attempts = attempts + 1, claim_owner = null, claim_until = null, update_time = ?
+                where id = ?
+                """, ids, ids.size(), (ps, id) -> {
+            ps.setString(1, OutboxStatus.SENT.name());
+            ps.setObject(2, now);
+            ps.setLong(3, id);
+        });
+        return ids.size();
+    }
+
+    @Override
+    public int markFailed(List<OutboxFailure> failures, LocalDateTime now) {
+        if (failures.isEmpty()) return 0;
+        jdbcTemplate.batchUpdate("""
+                update notification_outbox
+                set status = ?, attempts = attempts + 1, next_attempt_time = ?, last_error = ?,
+                    claim_owner = null, claim_until = null, update_time = ?
+                where id = ?
+                """, failures, failures.size(), (ps, failure) -> {
+            ps.setString(1, failure.status().name());
+            ps.setObject(2, failure.nextAttemptTime());
+            ps.setString(3, failure.error());
+            ps.setObject(4, now);
+            ps.setLong(5, failure.id());
+        });
+        return failures.size();
+    }
+
+    @Override
+    public long deleteSentBefore(LocalDateTime before) {
+        return queryFactory
+                .delete(notificationOutbox)
+                .where(notificationOutbox.status.eq(OutboxStatus.SENT),
+                        notificationOutbox.updateTime.lt(before))
+                .execute();
+    }
+
+    // type, status 가 ordinal(숫자 컬럼)로 저장된 테이블이면 이름(varchar)으로 변환, 변환한 컬럼 수 반환
+    @Override
+    public int convertOrdinalColumns() {
+        List<String> columns = jdbcTemplate.queryForList("""
+                select column_name from information_schema.columns
+                where table_schema = database() and table_name = 'notification_outbox'
+                  and column_name in ('type', 'status') and data_type in ('tinyint', 'smallint', 'int', 'bigint')
+                """, String.class);
+        for (String column : columns) {
+            Enum<?>[] values = column.equals("type") ? FCMType.values() : OutboxStatus.values();
+            StringBuilder names = new StringBuilder("case " + column);
+            for (Enum<?> value : values) {
+                names.append(" when '").append(value.ordinal()).append("' then '").append(value.name()).append("'");
+            }
+            jdbcTemplate.execute("alter table notification_outbox modify " + column + " varchar(255)");
+            jdbcTemplate.update("update notification_outbox set " + column + " = " + names + " end where " + column + " is not null");
+        }
+        return columns.size();
+    }
+}
@@ -0,0 +1,50 @@
+package com.senabo.domain.notification.service;
+
+import com.senabo.config.firebase.FCMService;
+import com.senabo.config.firebase.FCMType;
+import com.senabo.domain.notification.dto.CoalescedNotification;
+import com.senabo.domain.notification.entity.NotificationOutbox;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// claim 한 outbox 행을 토큰별로 묶어 기기당 알림 한 건으로 합침
+// 우선순위(FCMType 선언 순서)가 가장 높은 알림의 제목/본문을 쓰고, 나머지는 "외 N건"으로 요약
+@Component
+public class NotificationCoalescer {
+    private static final Comparator<NotificationOutbox> PRIORITY = Comparator
+            .comparing(NotificationOutbox::getType, Comparator.nullsLast(Comparator.<FCMType>naturalOrder()))
+            .thenComparing(NotificationOutbox::getId);
+
+    private final FCMService fcmService;
+    private final Counter coalesced;
+
+    public NotificationCoalescer(FCMService fcmService, MeterRegistry meterRegistry) {
+        this.fcmService = fcmService;
+        this.coalesced = Counter.builder("notification.coalesced").register(meterRegistry);
+    }
+
+    public List<CoalescedNotification> coalesce(List<NotificationOutbox> outboxes) {
+        Map<String, List<NotificationOutbox>> byToken = new LinkedHashMap<>();
+        for (NotificationOutbox outbox : outboxes) {
+            byToken.computeIfAbsent(outbox.getToken(), token -> new ArrayList<>()).add(outbox);
+        }
+
+        List<CoalescedNotification> notifications = new ArrayList<>(byToken.size());
+        for (List<NotificationOutbox> group : byToken.values()) {
+            group.sort(PRIORITY);
+            NotificationOutbox top = group.get(0);
+            String body = group.size() == 1 ? top.getBody() : top.getBody() + " 외 " + (group.size() - 1) + "건";
+            notifications.add(new CoalescedNotification(group,
+                    fcmService.makeMessage(top.getType(), top.getTitle(), body, top.getToken())));
+        }
+        coalesced.increment(outboxes.size() - notifications.size());
+        return notifications;
+    }
+}
@@ -0,0 +1,85 @@
+package com.senabo.domain.notification.service;
+
+import com.senabo.config.firebase.FCMPriority;
+import com.senabo.config.firebase.FCMResult;
+import com.senabo.config.firebase.FCMService;
+import com.senabo.domain.notification.dto.CoalescedNotification;
+import com.senabo.domain.notification.entity.NotificationOutbox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// notification_outbox 를 batchSize 단위로 claim 해서 전송 (인스턴스마다 다른 행을 가져가므로 늘리면 같이 빨라짐)
+// 전송은 트랜잭션 밖에서, 결과 반영만 짧은 트랜잭션으로
+// claim 한 행은 NotificationCoalescer 로 기기(토큰)당 한 건씩 묶어서 보냄
+// 우선순위(FCMPriority)마다 drain 이 따로 돌아서 한 우선순위가 밀려도 다른 우선순위는 계속 나감
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxDispatcher {
+    private final NotificationOutboxService notificationOutboxService;
+    private final FCMService fcmService;
+    private final NotificationCoalescer notificationCoalescer;
+
+    private final String owner = UUID.randomUUID().toString();
+
+    @Value("${notification.outbox.batch-size}")
+    private int batchSize;
+
+    // 단위: ms
+    @Value("${notification.outbox.retention}")
+    private long retention;
+
+    // 우선순위마다 따로 꺼내서 대량 알림이 밀려 있어도 돌발상황 알림은 기다리지 않음
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-delay}")
+    public void drainHigh() {
+        drain(FCMPriority.HIGH);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-delay}")
+    public void drainNormal() {
+        drain(FCMPriority.NORMAL);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-delay}")
+    public void drainLow() {
+        drain(FCMPriority.LOW);
+    }
+
+    private void drain(FCMPriority priority) {
+        while (true) {
+            // 청크마다 새 claim 키: 앞 청크의 결과 반영이 늦어도 섞이지 않음
+            List<NotificationOutbox> outboxes = notificationOutboxService.claim(owner + ":" + UUID.randomUUID(), priority, batchSize);
+            if (outboxes.isEmpty()) return;
+
+            // 같은 기기로 가는 알림은 한 건으로 보내고, 결과는 묶인 행 모두에 반영
+            List<CoalescedNotification> notifications = notificationCoalescer.coalesce(outboxes);
+            List<FCMResult> results = fcmService.sendFCM(notifications.stream().map(CoalescedNotification::message).toList()).join();
+            List<NotificationOutbox> completed = new ArrayList<>(outboxes.size());
+            List<FCMResult> completedResults = new ArrayList<>(outboxes.size());
+            for (int i = 0; i < notifications.size(); i++) {
+                for (NotificationOutbox outbox : notifications.get(i).outboxes()) {
+                    completed.add(outbox);
+                    completedResults.add(results.get(i));
+                }
+            }
+            notificationOutboxService.complete(completed, completedResults);
+            if (outboxes.size() < batchSize) return;
+        }
+    }
+
+    // 매일 오전 4시 30분, 보관 기간이 지난 전송 완료 행 삭제
+    @Scheduled(cron = "0 30 4 * * *")
+    public void purge() {
+        long count = notificationOutboxService.purgeSent(LocalDateTime.now().minus(Duration.ofMillis(retention)));
+        log.info("알림 outbox 정리: " + count + "건");
+    }
+}
@@ -0,0 +1,147 @@
+package com.senabo.domain.notification.service;
+
+import com.senabo.config.firebase.FCMMessage;
+import com.senabo.config.firebase.FCMPriority;
+import com.senabo.config.firebase.FCMResult;
+import com.senabo.config.firebase.FCMType;
+import com.senabo.domain.notification.dto.OutboxFailure;
+import com.senabo.domain.notification.entity.NotificationOutbox;
+import com.senabo.domain.notification.entity.OutboxStatus;
+import com.senabo.domain.notification.repository.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+
+    // 단위: ms
+    @Value("${notification.outbox.claim-timeout}")
+    private long claimTimeout;
+
+    @Value("${notification.outbox.backoff}")
+    private long backoff;
+
+    @Value("${notification.outbox.max-backoff}")
+    private long maxBackoff;
+
+    @Value("${notification.outbox.max-attempts}")
+    private int maxAttempts;
+
+    // 단위: ms, 새 알림은 이만큼 기다렸다 보내서 그 사이 같은 기기로 들어온 알림과 묶음
+    @Value("${notification.outbox.coalesce-window}")
+    private long coalesceWindow;
+
+    // 알림을 만든 변경과 같은 트랜잭션에서 저장
+    // scope(job + tick 등)와 메시지 내용이 같으면 같은 키가 되어 한 번만 저장됨
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String scope, List<FCMMessage> messages) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime sendTime = now.plus(Duration.ofMillis(coalesceWindow));
+        List<NotificationOutbox> outboxes = messages.stream()
+                .filter(message -> message.getMessage().getToken() != null)
+                .map(message -> new NotificationOutbox(
+                        idempotencyKey(scope, message),
+                        message.getMessage().getToken(),
+                        message.getMessage().getNotification().getTitle(),
+                        message.getMessage().getNotification().getBody(),
+                        message.getType(),
+                        sendTime))
+                .toList();
+        notificationOutboxRepository.insertIgnoreAll(outboxes, now);
+    }
+
+    // 재시도 시각이 된 priority 알림을 size 만큼 선점해서 반환 (선점한 기기의 나머지 행 포함)
+    @Transactional
+    public List<NotificationOutbox> claim(String claimOwner, FCMPriority priority, int size) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime claimUntil = now.plus(Duration.ofMillis(claimTimeout));
+        List<FCMType> types = Arrays.stream(FCMType.values()).filter(type -> type.getPriority() == priority).toList();
+        int claimed = notificationOutboxRepository.claim(claimOwner, now, claimUntil, size,
+                types, FCMType.priorityOf(null) == priority);
+        if (claimed == 0) return List.of();
+        List<String> tokens = notificationOutboxRepository.findClaimed(claimOwner).stream()
+                .map(NotificationOutbox::getToken)
+                .distinct()
+                .toList();
+        notificationOutboxRepository.claimSameTokens(claimOwner, tokens, now, claimUntil);
+        return notificationOutboxRepository.findClaimed(claimOwner);
+    }
+
+    // results 는 outboxes 와 같은 순서
+    @Transactional
+    public void complete(List<NotificationOutbox> outboxes, List<FCMResult> results) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> sent = new ArrayList<>();
+        List<OutboxFailure> failures = new ArrayList<>();
+        for (int i = 0; i < outboxes.size(); i++) {
+            NotificationOutbox outbox = outboxes.get(i);
+            FCMResult result = results.get(i);
+            if (result.isSuccess()) {
+                sent.add(outbox.getId());
+                continue;
+            }
+
+            // 무효 토큰은 재시도하지 않음
+            int attempts = outbox.getAttempts() + 1;
+            OutboxStatus status = attempts >= maxAttempts || result.isInvalidToken() ? OutboxStatus.FAILED : OutboxStatus.PENDING;
+            failures.add(new OutboxFailure(outbox.getId(), status, now.plus(Duration.ofMillis(backoffOf(attempts))), errorOf(result)));
+        }
+        notificationOutboxRepository.markSent(sent, now);
+        notificationOutboxRepository.markFailed(failures, now);
+        if (!failures.isEmpty()) log.warn("알림 전송 실패: " + failures.size() + "건 재시도 예약");
+    }
+
+    @Transactional
+    public long purgeSent(LocalDateTime before) {
+        return notificationOutboxRepository.deleteSentBefore(before);
+    }
+
+    // 배포 직후 ordinal 로 저장된 기존 outbox 의 type, status 를 이름으로 변환
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional
+    public void convertOrdinalColumns() {
+        int count = notificationOutboxRepository.convertOrdinalColumns();
+        if (count > 0) log.info("알림 outbox 종류/상태 컬럼 변환: " + count + "개");
+    }
+
+    // backoff * 2^(attempts - 1), 최대 maxBackoff
+    private long backoffOf(int attempts) {
+        return Math.min(maxBackoff, backoff << Math.min(attempts - 1, 30));
+    }
+
+    private String errorOf(FCMResult result) {
+        String error = result.errorCode() == null ? "UNKNOWN" : result.errorCode().name();
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    private String idempotencyKey(String scope, FCMMessage message) {
+        String source = String.join("\n", scope,
+                message.getMessage().getToken(),
+                String.valueOf(message.getMessage().getNotification().getTitle()),
+                String.valueOf(message.getMessage().getNotification().getBody()));
+        return UUID.nameUUIDFromBytes(source.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+}
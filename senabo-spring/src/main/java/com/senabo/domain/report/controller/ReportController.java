@@ -4,7 +4,6 @@ import com.senabo.common.api.ApiResponse;
 import com.senabo.domain.report.dto.request.UpdateTotalTimeRequest;
 import com.senabo.domain.report.dto.response.ReportResponse;
 import com.senabo.domain.report.dto.response.SimpleReportResponse;
-import com.senabo.domain.report.entity.Report;
 import com.senabo.domain.report.service.ReportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -19,7 +18,6 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -40,11 +38,8 @@ public class ReportController {
     )
     @Operation(summary = "주간 리포트 전체 조회", description = "주간 리포트 내역을 전체 조회한다.")
     public ApiResponse<List<SimpleReportResponse>> getReport(@AuthenticationPrincipal UserDetails principal) {
-        List<Report> report = reportService.getReport(principal.getUsername());
-        if (report.isEmpty()) return ApiResponse.fail("주간 리포트 전체 조회 실패", null);
-        List<SimpleReportResponse> response = report.stream()
-                .map(SimpleReportResponse::from)
-                .collect(Collectors.toList());
+        List<SimpleReportResponse> response = reportService.getReportList(principal.getUsername());
+        if (response.isEmpty()) return ApiResponse.fail("주간 리포트 전체 조회 실패", null);
         return ApiResponse.success("주간 리포트 전체 조회 성공", response);
     }
 
@@ -58,9 +53,23 @@ public class ReportController {
     )
     @Operation(summary = "주간 리포트 주간 조회", description = "주간 리포트 내역을 주간 조회한다.")
     public ApiResponse<ReportResponse> getReportWeek(@AuthenticationPrincipal UserDetails principal, @PathVariable int week) {
-        Optional<Report> response = reportService.getReportWeek(principal.getUsername(), week);
+        Optional<ReportResponse> response = reportService.getReportWeekResponse(principal.getUsername(), week);
         if (response.isEmpty()) return ApiResponse.fail("주간 리포트 " + week + "주차 조회 실패", null);
-        return ApiResponse.success("주간 리포트 " + week + "주차 조회 성공", ReportResponse.from(response.get()));
+        return ApiResponse.success("주간 리포트 " + week + "주차 조회 성공", response.get());
+    }
+
+    @GetMapping("/preview")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "진행 중인 주간 리포트", content =
+                    {@Content(mediaType = "application/json", schema =
+                    @Schema(implementation = ReportResponse.class))}),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "USER NOT FOUND / DATA NOT FOUND")
+    }
+    )
+    @Operation(summary = "주간 리포트 미리보기", description = "이번 주 리포트를 현재까지의 기록으로 계산해서 조회한다.")
+    public ApiResponse<ReportResponse> getReportPreview(@AuthenticationPrincipal UserDetails principal) {
+        ReportResponse response = reportService.getPreview(principal.getUsername());
+        return ApiResponse.success("주간 리포트 미리보기 조회 성공", response);
     }
 
 //    @PutMapping("/time")
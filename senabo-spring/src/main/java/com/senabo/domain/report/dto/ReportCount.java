@@ -0,0 +1,61 @@
+package com.senabo.domain.report.dto;
+
+import com.senabo.domain.report.entity.ReportAccumulator;
+import com.senabo.domain.stress.entity.StressType;
+
+// 한 주 동안의 점수 재료 카운트 (누적 행에 더할 증가분으로도 사용)
+public record ReportCount(
+        Long memberId,
+        long feedCount,
+        long poopCount,
+        long walkCount,
+        long diseaseCount,
+        long communicationCount,
+        long brushingTeethCount
+) {
+    public static ReportCount from(ReportAccumulator accumulator) {
+        return new ReportCount(
+                accumulator.getMemberId().getId(),
+                accumulator.getFeedCount(),
+                accumulator.getPoopCount(),
+                accumulator.getWalkCount(),
+                accumulator.getDiseaseCount(),
+                accumulator.getCommunicationCount(),
+                accumulator.getBrushingTeethCount()
+        );
+    }
+
+    // 리포트 점수에 쓰지 않는 스트레스 유형은 null
+    public static ReportCount ofStress(Long memberId, StressType type) {
+        return switch (type) {
+            case FEED -> new ReportCount(memberId, 1, 0, 0, 0, 0, 0);
+            case POOP -> new ReportCount(memberId, 0, 1, 0, 0, 0, 0);
+            case WALK -> new ReportCount(memberId, 0, 0, 1, 0, 0, 0);
+            default -> null;
+        };
+    }
+
+    public static ReportCount ofDisease(Long memberId) {
+        return new ReportCount(memberId, 0, 0, 0, 1, 0, 0);
+    }
+
+    public static ReportCount ofCommunication(Long memberId) {
+        return new ReportCount(memberId, 0, 0, 0, 0, 1, 0);
+    }
+
+    public static ReportCount ofBrushingTeeth(Long memberId) {
+        return new ReportCount(memberId, 0, 0, 0, 0, 0, 1);
+    }
+
+    public ReportCount plus(ReportCount other) {
+        return new ReportCount(
+                memberId,
+                feedCount + other.feedCount,
+                poopCount + other.poopCount,
+                walkCount + other.walkCount,
+                diseaseCount + other.diseaseCount,
+                communicationCount + other.communicationCount,
+                brushingTeethCount + other.brushingTeethCount
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package com.senabo.domain.report.dto;
+
+// 주간 리포트 마감 결과 (reportId 를 마감하고, 마지막 주차가 아니면 week + 1 리포트를 새로 만듦)
+public record ReportScore(
+        Long reportId,
+        Long memberId,
+        int week,
+        int endAffectionScore,
+        int endStressScore,
+        int poopScore,
+        int walkScore,
+        int feedScore,
+        int communicationScore,
+        int diseaseScore
+) {
+}
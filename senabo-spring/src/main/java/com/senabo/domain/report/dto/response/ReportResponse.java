@@ -1,5 +1,6 @@
 package com.senabo.domain.report.dto.response;
 
+import com.senabo.domain.report.dto.ReportScore;
 import com.senabo.domain.report.entity.Report;
 import lombok.Builder;
 
@@ -46,4 +47,27 @@ public record ReportResponse(
                 .updateTime(report.getUpdateTime())
                 .build();
     }
+
+    // 마감 전 리포트에 현재까지의 점수를 채워서 반환
+    public static ReportResponse preview(Report report, ReportScore score) {
+        return ReportResponse.builder()
+                .id(report.getId())
+                .memberId(report.getMemberId().getId())
+                .dogName(report.getMemberId().getDogName())
+                .week(report.getWeek())
+                .totalTime(report.getTotalTime())
+                .startAffectionScore(report.getStartAffectionScore())
+                .startStressScore(report.getStartStressScore())
+                .endAffectionScore(score.endAffectionScore())
+                .endStressScore(score.endStressScore())
+                .poopScore(score.poopScore())
+                .walkScore(score.walkScore())
+                .feedScore(score.feedScore())
+                .communicationScore(score.communicationScore())
+                .diseaseScore(score.diseaseScore())
+                .complete(report.getComplete())
+                .createTime(report.getCreateTime())
+                .updateTime(report.getUpdateTime())
+                .build();
+    }
 }
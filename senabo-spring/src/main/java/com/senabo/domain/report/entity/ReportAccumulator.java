@@ -0,0 +1,46 @@
+package com.senabo.domain.report.entity;
+
+import com.senabo.common.audit.BaseEntity;
+import com.senabo.domain.member.entity.Member;
+import jakarta.persistence.*;
+import lombok.*;
+
+// 주간 리포트(report_id) 별 점수 재료 카운트
+// 스트레스/질병/교감/양치 저장 시 회원의 마지막 리포트 행에 더해 두고, 마감과 미리보기에서 그대로 읽음
+@Getter
+@Entity
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ReportAccumulator extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false, unique = true)
+    private Long id;
+
+    // 회원 삭제 시 report 와 함께 지워지므로 FK 없이 id 만 저장
+    @Column(name = "report_id", nullable = false, unique = true)
+    private Long reportId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id")
+    private Member memberId;
+
+    @Column(name = "feed_count")
+    private int feedCount;
+
+    @Column(name = "poop_count")
+    private int poopCount;
+
+    @Column(name = "walk_count")
+    private int walkCount;
+
+    @Column(name = "disease_count")
+    private int diseaseCount;
+
+    @Column(name = "communication_count")
+    private int communicationCount;
+
+    @Column(name = "brushing_teeth_count")
+    private int brushingTeethCount;
+}
@@ -0,0 +1,12 @@
+package com.senabo.domain.report.repository;
+
+import com.senabo.domain.report.entity.ReportAccumulator;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ReportAccumulatorRepository extends JpaRepository<ReportAccumulator, Long>, ReportAccumulatorRepositoryCustom {
+    Optional<ReportAccumulator> findByReportId(Long reportId);
+}
@@ -0,0 +1,17 @@
+package com.senabo.domain.report.repository;
+
+import com.senabo.domain.report.dto.ReportCount;
+import com.senabo.domain.report.entity.ReportAccumulator;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ReportAccumulatorRepositoryCustom {
+    List<ReportAccumulator> findByReportIds(List<Long> reportIds);
+
+    int accumulateAll(List<ReportCount> counts, LocalDateTime now);
+
+    long deleteByMember(Long memberId);
+
+    int backfill(Long memberId);
+}
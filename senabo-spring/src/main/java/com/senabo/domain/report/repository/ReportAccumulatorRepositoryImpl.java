@@ -0,0 +1,99 @@
+package com.senabo.domain.report.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.senabo.domain.report.dto.ReportCount;
+import com.senabo.domain.report.entity.ReportAccumulator;
+import com.senabo.domain.stress.entity.StressType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.senabo.domain.report.entity.QReportAccumulator.reportAccumulator;
+
+@RequiredArgsConstructor
+public class ReportAccumulatorRepositoryImpl implements ReportAccumulatorRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<ReportAccumulator> findByReportIds(List<Long> reportIds) {
+        if (reportIds.isEmpty()) return List.of();
+        return queryFactory
+                .selectFrom(reportAccumulator)
+                .where(reportAccumulator.reportId.in(reportIds))
+                .fetch();
+    }
+
+    // 회원의 마지막 리포트 행에 증가분을 더함 (행이 없으면 생성)
+    @Override
+    public int accumulateAll(List<ReportCount> counts, LocalDateTime now) {
+        if (counts.isEmpty()) return 0;
+        jdbcTemplate.batchUpdate("""
+                insert into report_accumulator (report_id, member_id, feed_count, poop_count, walk_count, disease_count,
+                                                communication_count, brushing_teeth_count, create_time, update_time)
+                select r.id, r.member_id, ?, ?, ?, ?, ?, ?, ?, ?
+                from report r
+                where r.member_id = ?
+                order by r.id desc
+                limit 1
+                on duplicate key update
+                    feed_count = report_accumulator.feed_count + values(feed_count),
+                    poop_count = report_accumulator.poop_count + values(poop_count),
+                    walk_count = report_accumulator.walk_count + values(walk_count),
+                    disease_count = report_accumulator.disease_count + values(disease_count),
+                    communication_count = report_accumulator.communication_count + values(communication_count),
+                    brushing_teeth_count = report_accumulator.brushing_teeth_count + values(brushing_teeth_count),
+                    update_time = values(update_time)
+                """, counts, counts.size(), (ps, count) -> {
+            ps.setLong(1, count.feedCount());
+            ps.setLong(2, count.poopCount());
+            ps.setLong(3, count.walkCount());
+            ps.setLong(4, count.diseaseCount());
+            ps.setLong(5, count.communicationCount());
+            ps.setLong(6, count.brushingTeethCount());
+            ps.setObject(7, now);
+            ps.setObject(8, now);
+            ps.setLong(9, count.memberId());
+        });
+        return counts.size();
+    }
+
+    @Override
+    public long deleteByMember(Long memberId) {
+        return queryFactory
+                .delete(reportAccumulator)
+                .where(reportAccumulator.memberId.id.eq(memberId))
+                .execute();
+    }
+
+    // 누적 행이 없는 진행 중 리포트는 기존 기록을 기간 조회해서 생성 (memberId 가 null 이면 전체)
+    @Override
+    public int backfill(Long memberId) {
+        StringBuilder sql = new StringBuilder("""
+                insert ignore into report_accumulator (report_id, member_id, feed_count, poop_count, walk_count, disease_count,
+                                                       communication_count, brushing_teeth_count, create_time, update_time)
+                select r.id, r.member_id,
+                       (select count(*) from stress s where s.member_id = r.member_id and s.type = ? and s.create_time >= date(r.create_time)),
+                       (select count(*) from stress s where s.member_id = r.member_id and s.type = ? and s.create_time >= date(r.create_time)),
+                       (select count(*) from stress s where s.member_id = r.member_id and s.type = ? and s.create_time >= date(r.create_time)),
+                       (select count(*) from disease d where d.member_id = r.member_id and d.create_time >= date(r.create_time)),
+                       (select count(*) from communication c where c.member_id = r.member_id and c.create_time >= date(r.create_time)),
+                       (select count(*) from brushing_teeth b where b.member_id = r.member_id and b.create_time >= date(r.create_time)
+                                                                and b.update_time <= date(r.create_time) + interval 7 day),
+                       now(), now()
+                from report r
+                where r.complete = false
+                  and not exists (select 1 from report_accumulator a where a.report_id = r.id)
+                """);
+        List<Object> args = new ArrayList<>(List.of(StressType.FEED.ordinal(), StressType.POOP.ordinal(), StressType.WALK.ordinal()));
+        if (memberId != null) {
+            sql.append("  and r.member_id = ?");
+            args.add(memberId);
+        }
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
@@ -1,11 +1,13 @@
 package com.senabo.domain.report.repository;
 
 import com.senabo.domain.member.entity.Member;
+import com.senabo.domain.report.dto.ReportScore;
 import com.senabo.domain.report.entity.Report;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,5 +17,8 @@ public interface ReportRepositoryCustom  {
     Optional<Report> findLatestData(Member member);
     List<Report> findCompleteReport(Member member);
     Optional<Report> findCompleteReportWeek(Member member, int week);
+    List<Report> findLatestDataByMemberIds(List<Long> memberIds);
+    int completeAll(List<ReportScore> scores, LocalDateTime now);
+    int insertNextWeek(List<ReportScore> scores, LocalDateTime now);
 
 }
\ No newline at end of file
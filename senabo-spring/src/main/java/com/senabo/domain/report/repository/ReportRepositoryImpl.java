@@ -1,10 +1,16 @@
 package com.senabo.domain.report.repository;
 
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.senabo.domain.member.entity.Member;
+import com.senabo.domain.report.dto.ReportScore;
+import com.senabo.domain.report.entity.QReport;
 import com.senabo.domain.report.entity.Report;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +19,7 @@ import static com.senabo.domain.report.entity.QReport.report;
 @RequiredArgsConstructor
 public class ReportRepositoryImpl implements ReportRepositoryCustom {
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
 
     @Override
@@ -58,4 +65,61 @@ public class ReportRepositoryImpl implements ReportRepositoryCustom {
                 .limit(1)
                 .fetchOne());
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<Report> findLatestDataByMemberIds(List<Long> memberIds) {
+        if (memberIds.isEmpty()) return List.of();
+        QReport sub = new QReport("sub");
+        return queryFactory
+                .selectFrom(report)
+                .where(report.id.in(
+                        JPAExpressions
+                                .select(sub.id.max())
+                                .from(sub)
+                                .where(sub.memberId.id.in(memberIds))
+                                .groupBy(sub.memberId.id)
+                ))
+                .fetch();
+    }
+
+    @Override
+    public int completeAll(List<ReportScore> scores, LocalDateTime now) {
+        if (scores.isEmpty()) return 0;
+        jdbcTemplate.batchUpdate(
+                "update report set end_affection_score = ?, end_stress_score = ?, poop_score = ?, walk_score = ?, feed_score = ?, "
+                        + "communication_score = ?, disease_score = ?, complete = true, update_time = ? where id = ?",
+                scores, scores.size(), (ps, score) -> {
+                    ps.setInt(1, score.endAffectionScore());
+                    ps.setInt(2, score.endStressScore());
+                    ps.setInt(3, score.poopScore());
+                    ps.setInt(4, score.walkScore());
+                    ps.setInt(5, score.feedScore());
+                    ps.setInt(6, score.communicationScore());
+                    ps.setInt(7, score.diseaseScore());
+                    ps.setObject(8, now);
+                    ps.setLong(9, score.reportId());
+                });
+        return scores.size();
+    }
+
+    @Override
+    public int insertNextWeek(List<ReportScore> scores, LocalDateTime now) {
+        if (scores.isEmpty()) return 0;
+        StringBuilder sql = new StringBuilder(
+                "insert into report (member_id, week, total_time, start_affection_score, start_stress_score, end_affection_score, end_stress_score, "
+                        + "poop_score, walk_score, feed_score, communication_score, disease_score, complete, create_time, update_time) values ");
+        List<Object> args = new ArrayList<>(scores.size() * 6);
+        for (int i = 0; i < scores.size(); i++) {
+            ReportScore score = scores.get(i);
+            if (i > 0) sql.append(", ");
+            sql.append("(?, ?, 0, ?, ?, 0, 0, 0, 0, 0, 0, 0, false, ?, ?)");
+            args.add(score.memberId());
+            args.add(score.week() + 1);
+            args.add(score.endAffectionScore());
+            args.add(score.endStressScore());
+            args.add(now);
+            args.add(now);
+        }
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
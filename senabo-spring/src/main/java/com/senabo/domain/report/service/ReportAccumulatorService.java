@@ -0,0 +1,93 @@
+package com.senabo.domain.report.service;
+
+import com.senabo.domain.report.dto.ReportCount;
+import com.senabo.domain.report.entity.ReportAccumulator;
+import com.senabo.domain.report.repository.ReportAccumulatorRepository;
+import com.senabo.domain.stress.dto.StressChange;
+import com.senabo.domain.stress.entity.StressType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 주간 리포트 점수 재료를 기록 저장 시점에 누적 (마감/미리보기는 범위 조회 없이 한 행만 읽음)
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class ReportAccumulatorService {
+    private final ReportAccumulatorRepository reportAccumulatorRepository;
+
+    @Transactional
+    public void accumulateStress(Long memberId, StressType type) {
+        ReportCount count = ReportCount.ofStress(memberId, type);
+        if (count == null) return;
+        reportAccumulatorRepository.accumulateAll(List.of(count), LocalDateTime.now());
+    }
+
+    // 스케줄러 일괄 저장분은 회원별로 합쳐서 한 번에 반영
+    @Transactional
+    public void accumulateStress(List<StressChange> changes) {
+        Map<Long, ReportCount> counts = changes.stream()
+                .map(change -> ReportCount.ofStress(change.memberId(), change.type()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toMap(ReportCount::memberId, Function.identity(), ReportCount::plus, LinkedHashMap::new));
+        reportAccumulatorRepository.accumulateAll(List.copyOf(counts.values()), LocalDateTime.now());
+    }
+
+    @Transactional
+    public void accumulateDisease(Long memberId) {
+        reportAccumulatorRepository.accumulateAll(List.of(ReportCount.ofDisease(memberId)), LocalDateTime.now());
+    }
+
+    @Transactional
+    public void accumulateCommunication(Long memberId) {
+        reportAccumulatorRepository.accumulateAll(List.of(ReportCount.ofCommunication(memberId)), LocalDateTime.now());
+    }
+
+    @Transactional
+    public void accumulateBrushingTeeth(Long memberId) {
+        reportAccumulatorRepository.accumulateAll(List.of(ReportCount.ofBrushingTeeth(memberId)), LocalDateTime.now());
+    }
+
+    // 기록을 일괄 삭제한 경우 남은 기록으로 누적 행을 다시 만듦
+    @Transactional
+    public void rebuild(Long memberId) {
+        reportAccumulatorRepository.deleteByMember(memberId);
+        reportAccumulatorRepository.backfill(memberId);
+    }
+
+    public Optional<ReportCount> findCount(Long reportId) {
+        return reportAccumulatorRepository.findByReportId(reportId).map(ReportCount::from);
+    }
+
+    // reportId -> 누적 카운트, 누적 행이 없는 리포트는 빠짐
+    public Map<Long, ReportCount> findCountMap(List<Long> reportIds) {
+        return reportAccumulatorRepository.findByReportIds(reportIds).stream()
+                .collect(Collectors.toMap(ReportAccumulator::getReportId, ReportCount::from));
+    }
+
+    // 배포 직후 진행 중인 리포트의 누적 행 생성
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillReportAccumulator() {
+        try {
+            int count = reportAccumulatorRepository.backfill(null);
+            log.info("리포트 누적 행 생성: " + count + "건");
+        } catch (DataIntegrityViolationException e) {
+            log.info("리포트 누적 행 생성 건너뜀: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.senabo.domain.report.service;
+
+import com.senabo.domain.affection.service.AffectionService;
+import com.senabo.domain.bath.service.BathService;
+import com.senabo.domain.brushingTeeth.service.BrushingTeethService;
+import com.senabo.domain.communication.service.CommunicationService;
+import com.senabo.domain.disease.service.DiseaseService;
+import com.senabo.domain.emergency.service.EmergencyPlanService;
+import com.senabo.domain.member.dto.MemberTick;
+import com.senabo.domain.member.entity.Member;
+import com.senabo.domain.member.service.MemberService;
+import com.senabo.domain.report.dto.ReportCount;
+import com.senabo.domain.report.dto.ReportScore;
+import com.senabo.domain.report.entity.Report;
+import com.senabo.domain.report.repository.ReportRepository;
+import com.senabo.domain.stress.entity.StressType;
+import com.senabo.domain.stress.service.StressLedger;
+import com.senabo.domain.stress.service.StressService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.senabo.domain.report.service.ReportService.*;
+
+// ReportService.scheduleReport 를 회원 묶음 단위로 처리
+// 점수 재료는 누적 행(ReportAccumulator)에서 읽고, 누적 행이 없으면 리포트 시작일이 같은 회원끼리 group by 쿼리로 계산
+// 리포트 마감/생성과 스트레스 저장은 일괄 쿼리로 반영
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class ReportBatchService {
+    private final ReportRepository reportRepository;
+    private final MemberService memberService;
+    private final AffectionService affectionService;
+    private final StressService stressService;
+    private final DiseaseService diseaseService;
+    private final CommunicationService communicationService;
+    private final BathService bathService;
+    private final BrushingTeethService brushingTeethService;
+    private final ReportAccumulatorService reportAccumulatorService;
+    private final ReportCache reportCache;
+    private final EmergencyPlanService emergencyPlanService;
+
+    @Transactional
+    public void scheduleReports(List<Member> members) {
+        if (members.isEmpty()) return;
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS);
+        Map<Long, Member> memberMap = members.stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity(), (a, b) -> a, LinkedHashMap::new));
+
+        // 7일 이상 경과한 리포트만 마감
+        List<Report> dueReports = reportRepository.findLatestDataByMemberIds(new ArrayList<>(memberMap.keySet())).stream()
+                .filter(report -> Duration.between(lastStartOf(report), now).toDays() >= 7)
+                .toList();
+        if (dueReports.isEmpty()) return;
+
+        List<Long> dueIds = dueReports.stream().map(report -> report.getMemberId().getId()).toList();
+        Map<Long, Integer> affectionScores = affectionService.getLatestScoreMap(dueIds);
+        Map<Long, Integer> stressScores = stressService.getLatestScoreMap(dueIds);
+
+        // 목욕 기록은 5주차 이상만 확인
+        List<Long> bathWeekIds = dueReports.stream()
+                .filter(report -> report.getWeek() >= BATH_WEEK && report.getWeek() != LAST_WEEK)
+                .map(report -> report.getMemberId().getId())
+                .toList();
+        Set<Long> bathed = new HashSet<>(stressService.getMemberIdsHavingType(bathWeekIds, StressType.BATH));
+        bathed.addAll(bathService.getBathMemberIds(bathWeekIds));
+
+        // 누적 행이 없는 리포트(누적 도입 전에 시작한 주 등)만 기간 조회로 계산
+        Map<Long, ReportCount> counts = new HashMap<>(reportAccumulatorService.findCountMap(
+                dueReports.stream().map(Report::getId).toList()));
+        dueReports.stream()
+                .filter(report -> !counts.containsKey(report.getId()))
+                .collect(Collectors.groupingBy(this::lastStartOf))
+                .forEach((lastStart, reports) -> counts.putAll(countByRange(lastStart, reports)));
+
+        List<ReportScore> scores = new ArrayList<>();
+        List<Long> completeIds = new ArrayList<>();
+        StressLedger ledger = new StressLedger();
+        for (Report report : dueReports) {
+            Long memberId = report.getMemberId().getId();
+            if (!affectionScores.containsKey(memberId) || !stressScores.containsKey(memberId)) {
+                log.warn("리포트 마감 제외: 애정도/스트레스 기록 없음 " + memberId);
+                continue;
+            }
+
+            ReportCount count = counts.get(report.getId());
+            scores.add(score(report, affectionScores.get(memberId), stressScores.get(memberId), count));
+
+            // 마지막 주차면 회원 완료 처리
+            if (report.getWeek() == LAST_WEEK) {
+                completeIds.add(memberId);
+                continue;
+            }
+
+            MemberTick member = MemberTick.from(memberMap.get(memberId));
+            if (report.getWeek() >= BATH_WEEK && !bathed.contains(memberId)) {
+                ledger.record(member, StressType.BATH, 20);
+            }
+            if (count.brushingTeethCount() == 0) {
+                ledger.record(member, StressType.BRUSHING_TEETH, 10);
+            }
+        }
+
+        LocalDateTime updateTime = LocalDateTime.now();
+        reportRepository.completeAll(scores, updateTime);
+        stressService.flushLedger(ledger);
+        List<ReportScore> nextWeek = scores.stream().filter(score -> score.week() != LAST_WEEK).toList();
+        reportRepository.insertNextWeek(nextWeek, updateTime);
+        emergencyPlanService.createPlans(nextWeek.stream().map(score -> memberMap.get(score.memberId())).toList(), now.toLocalDate());
+        memberService.completeMembers(completeIds);
+        // 마지막 주차 회원도 오늘 마감 알림을 받도록 마감일을 함께 옮김
+        memberService.updateNextReportDate(scores.stream().map(ReportScore::memberId).toList(), now.toLocalDate().plusDays(7));
+        reportCache.evictList(scores.stream().map(score -> memberMap.get(score.memberId()).getEmail()).toList());
+        log.info("리포트 일괄 마감: " + scores.size() + "건, 완료 회원 " + completeIds.size() + "명");
+    }
+
+    // reportId -> 리포트 시작일부터의 기록 수
+    private Map<Long, ReportCount> countByRange(LocalDateTime lastStart, List<Report> reports) {
+        List<Long> ids = reports.stream().map(report -> report.getMemberId().getId()).toList();
+        Map<Long, Map<StressType, Long>> stressCounts = stressService.getCountLastWeekMap(ids, lastStart);
+        Map<Long, Long> diseaseCounts = diseaseService.getCountLastWeekDiseaseMap(ids, lastStart);
+        Map<Long, Long> communicationCounts = communicationService.getCountCommunicationWeekMap(ids, lastStart);
+        Set<Long> brushed = new HashSet<>(brushingTeethService.getBrushingTeethWeekMemberIds(ids, lastStart));
+
+        Map<Long, ReportCount> counts = new HashMap<>();
+        for (Report report : reports) {
+            Long memberId = report.getMemberId().getId();
+            Map<StressType, Long> stressCount = stressCounts.getOrDefault(memberId, Map.of());
+            counts.put(report.getId(), new ReportCount(
+                    memberId,
+                    stressCount.getOrDefault(StressType.FEED, 0L),
+                    stressCount.getOrDefault(StressType.POOP, 0L),
+                    stressCount.getOrDefault(StressType.WALK, 0L),
+                    diseaseCounts.getOrDefault(memberId, 0L),
+                    communicationCounts.getOrDefault(memberId, 0L),
+                    brushed.contains(memberId) ? 1 : 0
+            ));
+        }
+        return counts;
+    }
+
+    private LocalDateTime lastStartOf(Report report) {
+        return report.getCreateTime().truncatedTo(ChronoUnit.DAYS);
+    }
+}
@@ -0,0 +1,205 @@
+package com.senabo.domain.report.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+// 완료된 주간 리포트 조회 캐시 (L1: 인스턴스 로컬 LRU, L2: Redis hash report:cache:{email})
+// 완료된 리포트는 바뀌지 않으므로 회원 삭제/이름 변경 때만 회원 단위로 무효화, 목록은 주차가 마감될 때도 무효화
+// 무효화는 커밋 후 Redis 삭제 + pub/sub 으로 다른 인스턴스의 L1 까지 지움
+// 무효화 전에 읽기 시작한 조회가 무효화 뒤에 옛 값을 다시 넣지 않도록 세대 번호를 비교해서 저장
+// - Redis: 회원별 report:cache:gen:{email} 을 무효화마다 올리고, 조회 전에 읽은 세대와 같을 때만 저장
+// - L1: 인스턴스의 무효화 횟수가 조회 중에 바뀌었으면 저장하지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportCache {
+    private static final String KEY_PREFIX = "report:cache:";
+    private static final String EVICT_CHANNEL = "report:cache:evict";
+    private static final String LIST_FIELD = "list";
+    private static final String ALL_FIELDS = "*";
+    private static final String GENERATION_PREFIX = "report:cache:gen:";
+    // KEYS[1]: 캐시 hash, KEYS[2]: 세대 키, ARGV: 조회 전 세대, field, json, ttl
+    private static final DefaultRedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('get', KEYS[2]) or '0') ~= ARGV[1] then return 0 end "
+                    + "redis.call('hset', KEYS[1], ARGV[2], ARGV[3]) "
+                    + "return redis.call('pexpire', KEYS[1], ARGV[4])", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${report.cache.local-size}")
+    private int localSize;
+
+    // 단위: ms
+    @Value("${report.cache.ttl}")
+    private long ttl;
+
+    private Map<String, Map<String, Object>> local;
+    private final AtomicLong localGeneration = new AtomicLong();
+    private Counter localHit;
+    private Counter redisHit;
+    private Counter miss;
+
+    @PostConstruct
+    public void init() {
+        local = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, Object>> eldest) {
+                return size() > localSize;
+            }
+        });
+        localHit = Counter.builder("report.cache.requests").tag("result", "l1_hit").register(meterRegistry);
+        redisHit = Counter.builder("report.cache.requests").tag("result", "l2_hit").register(meterRegistry);
+        miss = Counter.builder("report.cache.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("report.cache.hit.ratio", this, ReportCache::hitRatio).register(meterRegistry);
+        Gauge.builder("report.cache.local.size", local, Map::size).register(meterRegistry);
+
+        redisMessageListenerContainer.addMessageListener((message, pattern) -> {
+            String[] body = new String(message.getBody(), StandardCharsets.UTF_8).split("\n", 2);
+            evictLocal(body[0], body[1]);
+        }, new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    public <T> T getWeek(String email, int week, TypeReference<T> type, Predicate<T> cacheable, Supplier<T> loader) {
+        return get(email, "week:" + week, type, cacheable, loader);
+    }
+
+    public <T> T getList(String email, TypeReference<T> type, Predicate<T> cacheable, Supplier<T> loader) {
+        return get(email, LIST_FIELD, type, cacheable, loader);
+    }
+
+    // 회원 삭제, 이름(dogName) 변경
+    public void evictMember(String email) {
+        afterCommit(() -> evict(email, ALL_FIELDS));
+    }
+
+    // 주간 리포트 마감으로 완료 목록이 바뀐 회원
+    public void evictList(Collection<String> emails) {
+        if (emails.isEmpty()) return;
+        List<String> targets = List.copyOf(emails);
+        afterCommit(() -> targets.forEach(email -> evict(email, LIST_FIELD)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(String email, String field, TypeReference<T> type, Predicate<T> cacheable, Supplier<T> loader) {
+        long localSnapshot = localGeneration.get();
+        Map<String, Object> fields = local.get(email);
+        if (fields != null && fields.containsKey(field)) {
+            localHit.increment();
+            return (T) fields.get(field);
+        }
+
+        String generation = null;
+        try {
+            Object json = stringRedisTemplate.opsForHash().get(KEY_PREFIX + email, field);
+            if (json != null) {
+                T value = objectMapper.readValue((String) json, type);
+                putLocal(email, field, value, localSnapshot);
+                redisHit.increment();
+                return value;
+            }
+            generation = Objects.requireNonNullElse(stringRedisTemplate.opsForValue().get(GENERATION_PREFIX + email), "0");
+        } catch (RuntimeException | JsonProcessingException e) {
+            // Redis 장애 시 DB 조회로 대체
+            log.warn("리포트 캐시 조회 실패: {}", e.getMessage());
+        }
+
+        miss.increment();
+        T value = loader.get();
+        if (!cacheable.test(value)) return value;
+
+        putLocal(email, field, value, localSnapshot);
+        if (generation == null) return value;
+        try {
+            stringRedisTemplate.execute(PUT_SCRIPT, List.of(KEY_PREFIX + email, GENERATION_PREFIX + email),
+                    generation, field, objectMapper.writeValueAsString(value), String.valueOf(ttl));
+        } catch (RuntimeException | JsonProcessingException e) {
+            log.warn("리포트 캐시 저장 실패: {}", e.getMessage());
+        }
+        return value;
+    }
+
+    // 조회하는 동안 무효화가 있었으면 저장하지 않음
+    private void putLocal(String email, String field, Object value, long snapshot) {
+        synchronized (local) {
+            if (localGeneration.get() != snapshot) return;
+            local.computeIfAbsent(email, key -> new ConcurrentHashMap<>()).put(field, value);
+        }
+    }
+
+    private void evict(String email, String field) {
+        try {
+            // 세대를 먼저 올려서 진행 중인 조회의 저장을 막은 뒤 삭제
+            String generationKey = GENERATION_PREFIX + email;
+            stringRedisTemplate.opsForValue().increment(generationKey);
+            stringRedisTemplate.expire(generationKey, Duration.ofMillis(ttl));
+            if (ALL_FIELDS.equals(field)) stringRedisTemplate.delete(KEY_PREFIX + email);
+            else stringRedisTemplate.opsForHash().delete(KEY_PREFIX + email, field);
+            stringRedisTemplate.convertAndSend(EVICT_CHANNEL, email + "\n" + field);
+        } catch (RuntimeException e) {
+            log.warn("리포트 캐시 무효화 실패: {}", e.getMessage());
+        }
+        evictLocal(email, field);
+    }
+
+    private void evictLocal(String email, String field) {
+        synchronized (local) {
+            localGeneration.incrementAndGet();
+            if (ALL_FIELDS.equals(field)) {
+                local.remove(email);
+                return;
+            }
+            Map<String, Object> fields = local.get(email);
+            if (fields != null) fields.remove(field);
+        }
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private double hitRatio() {
+        double hit = localHit.count() + redisHit.count();
+        double total = hit + miss.count();
+        return total == 0 ? 0 : hit / total;
+    }
+}
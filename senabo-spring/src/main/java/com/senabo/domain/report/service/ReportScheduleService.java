@@ -1,45 +1,84 @@
 package com.senabo.domain.report.service;
 
-import com.senabo.config.firebase.FCMMessage;
+import com.senabo.common.schedule.ChunkExecutor;
+import com.senabo.common.schedule.ChunkReader;
+import com.senabo.common.schedule.JobRunner;
+import com.senabo.common.schedule.ShardCoordinator;
+import com.senabo.common.schedule.ShardRange;
 import com.senabo.config.firebase.FCMService;
+import com.senabo.config.firebase.FCMType;
+import com.senabo.domain.member.dto.MemberTick;
 import com.senabo.domain.member.entity.Member;
 import com.senabo.domain.member.service.MemberService;
+import com.senabo.domain.notification.service.NotificationOutboxService;
+import jakarta.annotation.PostConstruct;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
 @AllArgsConstructor
 public class ReportScheduleService {
+    private static final String REPORT_JOB = "report";
+    private static final String REPORT_FCM_JOB = "report-fcm";
+
     private final MemberService memberService;
-    private final ReportService reportService;
+    private final ReportBatchService reportBatchService;
     private final FCMService fcmService;
+    private final NotificationOutboxService notificationOutboxService;
+    private final ChunkExecutor chunkExecutor;
+    private final ShardCoordinator shardCoordinator;
+    private final JobRunner jobRunner;
+
+    @PostConstruct
+    public void init() {
+        jobRunner.register(REPORT_JOB, Duration.ofHours(23), this::runReport);
+        jobRunner.register(REPORT_FCM_JOB, Duration.ofHours(4), this::runFCMReport);
+    }
 
     // 매일 다음 날 오전 1시 00분에 실행
     @Scheduled(cron = "0 0 1 * * *")
     public void scheduleReport() {
         log.info("리포트 스케줄러 실행");
-        List<Member> allMember = memberService.findAllMemberNonComplete();
-        for (Member member : allMember) {
-            if(member.getId() == 16) continue; // test용 계정 제외
-            reportService.scheduleReport(member);
-        }
+        LocalDateTime tickTime = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        shardCoordinator.runShards(REPORT_JOB, tickTime, shard -> runReport(tickTime, shard));
+    }
+
+    // 리포트 마감일(nextReportDate)이 지난 회원만 조회
+    private CompletableFuture<Void> runReport(LocalDateTime tickTime, ShardRange shard) {
+        ChunkReader<Member> reader = (range, lastId, consumer) ->
+                memberService.forEachReportDueMemberChunk(tickTime.toLocalDate(), range, lastId, consumer);
+        return jobRunner.run(REPORT_JOB, tickTime, shard, run ->
+                chunkExecutor.run(run, reader, Member::getId, chunk ->
+                        reportBatchService.scheduleReports(chunk.stream()
+                                .filter(member -> member.getId() != 16) // test용 계정 제외
+                                .toList())));
     }
 
     // 매일 오전 8시 00분에 실행
     @Scheduled(cron = "0 0 8 * * *")
     public void scheduleFCMReport() {
         log.info("리포트 FCM 스케줄러 실행");
+        LocalDateTime tickTime = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        shardCoordinator.runShards(REPORT_FCM_JOB, tickTime, shard -> runFCMReport(tickTime, shard));
+    }
 
-        List<FCMMessage> reoprtList = memberService.findAllMember().stream()
-                .filter(member -> member.getDeviceToken() != null && reportService.check7Days(member) && member.getId() != 16) // test용 계정 제외
-                .map(member -> fcmService.makeMessage("세상에 나쁜 보호자는 있다", "주간 리포트를 확인해주세요!", member.getDeviceToken()))
-                .toList();
-
-        fcmService.sendFCM(reoprtList);
+    // 오늘 새벽 리포트가 마감된 회원(마감일이 오늘 + 7일로 옮겨진 회원)만 조회
+    private CompletableFuture<Void> runFCMReport(LocalDateTime tickTime, ShardRange shard) {
+        ChunkReader<MemberTick> reader = (range, lastId, consumer) ->
+                memberService.forEachReportNotifyMemberTickChunk(tickTime.toLocalDate().plusDays(7), range, lastId, consumer);
+        return jobRunner.run(REPORT_FCM_JOB, tickTime, shard, run ->
+                chunkExecutor.run(run, reader, MemberTick::id, chunk ->
+                        notificationOutboxService.enqueue(REPORT_FCM_JOB + ":" + tickTime, chunk.stream()
+                                .filter(member -> member.id() != 16) // test용 계정 제외
+                                .map(member -> fcmService.makeMessage(FCMType.REPORT, "세상에 나쁜 보호자는 있다", "주간 리포트를 확인해주세요!", member.deviceToken()))
+                                .toList())));
     }
 }
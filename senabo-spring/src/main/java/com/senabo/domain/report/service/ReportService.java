@@ -1,5 +1,6 @@
 package com.senabo.domain.report.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.senabo.domain.affection.entity.Affection;
 import com.senabo.domain.affection.service.AffectionService;
 import com.senabo.domain.bath.entity.Bath;
@@ -7,9 +8,13 @@ import com.senabo.domain.bath.service.BathService;
 import com.senabo.domain.brushingTeeth.service.BrushingTeethService;
 import com.senabo.domain.communication.service.CommunicationService;
 import com.senabo.domain.disease.service.DiseaseService;
+import com.senabo.domain.emergency.service.EmergencyPlanService;
 import com.senabo.domain.member.entity.Member;
 import com.senabo.domain.member.service.MemberService;
+import com.senabo.domain.report.dto.ReportCount;
+import com.senabo.domain.report.dto.ReportScore;
 import com.senabo.domain.report.dto.response.ReportResponse;
+import com.senabo.domain.report.dto.response.SimpleReportResponse;
 import com.senabo.domain.report.entity.Report;
 import com.senabo.domain.report.repository.ReportRepository;
 import com.senabo.domain.stress.entity.Stress;
@@ -28,6 +33,7 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Slf4j
@@ -37,6 +43,12 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class ReportService {
+    static final int LAST_WEEK = 8;
+    static final int BATH_WEEK = 5;
+    static final int POOP_DIVISOR = 168;
+    static final int WALK_DIVISOR = 7;
+    static final int FEED_DIVISOR = 168;
+
     private final ReportRepository reportRepository;
     private final MemberService memberService;
     private final AffectionService affectionService;
@@ -45,6 +57,9 @@ public class ReportService {
     private final CommunicationService communicationService;
     private final BathService bathService;
     private final BrushingTeethService brushingTeethService;
+    private final ReportAccumulatorService reportAccumulatorService;
+    private final ReportCache reportCache;
+    private final EmergencyPlanService emergencyPlanService;
 
     @Transactional
     public List<Report> getReport(String email) {
@@ -59,6 +74,17 @@ public class ReportService {
         return findReportWeek(member, week);
     }
 
+    // 완료된 리포트만 조회하므로 캐시에서 먼저 찾음 (비어 있으면 캐시하지 않음)
+    public List<SimpleReportResponse> getReportList(String email) {
+        return reportCache.getList(email, new TypeReference<List<SimpleReportResponse>>() {}, list -> !list.isEmpty(),
+                () -> getReport(email).stream().map(SimpleReportResponse::from).toList());
+    }
+
+    public Optional<ReportResponse> getReportWeekResponse(String email, int week) {
+        return Optional.ofNullable(reportCache.getWeek(email, week, new TypeReference<ReportResponse>() {}, Objects::nonNull,
+                () -> getReportWeek(email, week).map(ReportResponse::from).orElse(null)));
+    }
+
     @Transactional
     public Optional<Report> findReportWeek(Member member, int week) {
         Optional<Report> report = reportRepository.findCompleteReportWeek(member, week);
@@ -73,6 +99,29 @@ public class ReportService {
         return reportOptional.get();
     }
 
+    // 진행 중인 주간 리포트 미리보기 (누적 행이 없으면 기간 조회로 계산)
+    public ReportResponse getPreview(String email) {
+        Member member = memberService.findByEmail(email);
+        Report report = findLatestData(member);
+        ReportCount count = reportAccumulatorService.findCount(report.getId())
+                .orElseGet(() -> countByRange(member, report));
+        ReportScore score = score(report, member.getAffection(), member.getStressLevel(), count);
+        return ReportResponse.preview(report, score);
+    }
+
+    private ReportCount countByRange(Member member, Report report) {
+        LocalDateTime lastStart = report.getCreateTime().truncatedTo(ChronoUnit.DAYS);
+        return new ReportCount(
+                member.getId(),
+                stressService.getCountLastWeekList(member, lastStart, StressType.FEED),
+                stressService.getCountLastWeekList(member, lastStart, StressType.POOP),
+                stressService.getCountLastWeekList(member, lastStart, StressType.WALK),
+                diseaseService.getCountLastWeekDiseaseList(member, lastStart),
+                communicationService.getCountCommunicationWeek(member, lastStart),
+                brushingTeethService.getBrushingTeethWeek(report, member).size()
+        );
+    }
+
     // 앱 사용 시간 저장
     @Transactional
     public ReportResponse updateTotalTime(String email, int totalTime) {
@@ -89,7 +138,7 @@ public class ReportService {
         LocalDateTime lastStart = lastCreateTime.truncatedTo(ChronoUnit.DAYS);
 
         // 7일이 되었으면 새로운 report 생성
-        Duration duration = Duration.between(now, lastStart);
+        Duration duration = Duration.between(lastStart, now);
         long days = duration.toDays();
         if (days == 7) return true;
         return false;
@@ -105,16 +154,16 @@ public class ReportService {
             LocalDateTime lastStart = lastCreateTime.truncatedTo(ChronoUnit.DAYS);
 
             // 7일 이상 경과하면 새 리포트 생성
-            long daysElapsed = Duration.between(now, lastStart).toDays();
+            long daysElapsed = Duration.between(lastStart, now).toDays();
             if (daysElapsed < 7) return;
 
             // 각각의 스코어 계산
             int endAffectionScore = affectionService.getLatestAffectionData(member).getScore();
             int endStressScore = stressService.getLatestStressData(member).getScore();
-            int poopScore = calculateStressScore(member, StressType.POOP, 168);
-            int walkScore = calculateStressScore(member, StressType.WALK, 7);
-            int diseaseScore = (int) Math.max(0, 100 - diseaseService.getCountLastWeekDiseaseList(member, lastStart) * 10);
-            int feedScore = calculateStressScore(member, StressType.FEED, 168);
+            int poopScore = calculateStressScore(member, StressType.POOP, POOP_DIVISOR);
+            int walkScore = calculateStressScore(member, StressType.WALK, WALK_DIVISOR);
+            int diseaseScore = diseaseScore(diseaseService.getCountLastWeekDiseaseList(member, lastStart));
+            int feedScore = calculateStressScore(member, StressType.FEED, FEED_DIVISOR);
             int communicationScore = calculateCommunicationScore(member, lastStart);
 
             // lastReport 업데이트
@@ -122,13 +171,16 @@ public class ReportService {
             ReportResponse.from(lastReport);
 
             // 마지막 주차인지 확인
-            if (lastReport.getWeek() == 8) {
-                member.complete();
+            memberService.updateNextReportDate(List.of(member.getId()), now.toLocalDate().plusDays(7));
+            if (lastReport.getWeek() == LAST_WEEK) {
+                // 스케줄러에서 넘어온 회원은 준영속 상태라 update 쿼리로 반영
+                memberService.completeMembers(List.of(member.getId()));
+                reportCache.evictList(List.of(member.getEmail()));
                 return;
             }
 
             // 5주 간격 목욕 -> 20
-            if (lastReport.getWeek() >= 5 && stressService.getStressType(member, StressType.BATH).isEmpty() && bathService.getBath(member.getEmail()).isEmpty()) {
+            if (lastReport.getWeek() >= BATH_WEEK && stressService.getStressType(member, StressType.BATH).isEmpty() && bathService.getBath(member.getEmail()).isEmpty()) {
                 stressService.saveStress(member, StressType.BATH, 20);
             }
 
@@ -140,6 +192,8 @@ public class ReportService {
             // newReport 저장
             Report newReport = reportRepository.save(new Report(member, lastReport.getWeek() + 1, endAffectionScore, endStressScore));
             reportRepository.flush();
+            emergencyPlanService.createPlans(List.of(member), now.toLocalDate());
+            reportCache.evictList(List.of(member.getEmail()));
 
         } catch (Exception e) {
             e.printStackTrace();
@@ -149,15 +203,39 @@ public class ReportService {
 
     private int calculateStressScore(Member member, StressType stressType, int divisor) {
         Long stressCnt = stressService.getCountLastWeekList(member, findLatestData(member).getCreateTime().truncatedTo(ChronoUnit.DAYS), stressType);
-        return (int) (1 - stressCnt / divisor) * 100;
+        return stressScore(stressCnt, divisor);
     }
 
     private int calculateCommunicationScore(Member member, LocalDateTime lastStart) {
         Long communicationCnt = communicationService.getCountCommunicationWeek(member, lastStart);
-        int communicationScore = communicationCnt.intValue();
-        return Math.min(100, communicationScore);
+        return communicationScore(communicationCnt);
+    }
+
+    // 점수 식은 ReportBatchService 와 공유
+    static ReportScore score(Report report, int endAffectionScore, int endStressScore, ReportCount count) {
+        return new ReportScore(
+                report.getId(),
+                report.getMemberId().getId(),
+                report.getWeek(),
+                endAffectionScore,
+                endStressScore,
+                stressScore(count.poopCount(), POOP_DIVISOR),
+                stressScore(count.walkCount(), WALK_DIVISOR),
+                stressScore(count.feedCount(), FEED_DIVISOR),
+                communicationScore(count.communicationCount()),
+                diseaseScore(count.diseaseCount())
+        );
     }
 
+    static int stressScore(long stressCnt, int divisor) {
+        return (int) (1 - stressCnt / divisor) * 100;
+    }
 
+    static int diseaseScore(long diseaseCnt) {
+        return (int) Math.max(0, 100 - diseaseCnt * 10);
+    }
 
+    static int communicationScore(long communicationCnt) {
+        return (int) Math.min(100, communicationCnt);
+    }
 }
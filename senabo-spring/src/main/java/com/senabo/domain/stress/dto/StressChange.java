@@ -0,0 +1,11 @@
+package com.senabo.domain.stress.dto;
+
+import com.senabo.domain.stress.entity.StressType;
+
+public record StressChange(
+        Long memberId,
+        StressType type,
+        int changeAmount,
+        int score
+) {
+}
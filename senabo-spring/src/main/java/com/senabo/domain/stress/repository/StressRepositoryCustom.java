@@ -1,12 +1,14 @@
 package com.senabo.domain.stress.repository;
 
 import com.senabo.domain.member.entity.Member;
+import com.senabo.domain.stress.dto.StressChange;
 import com.senabo.domain.stress.entity.Stress;
 import com.senabo.domain.stress.entity.StressType;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -20,4 +22,12 @@ public interface StressRepositoryCustom  {
     Optional<Stress> findLatestData(Member member);
 
     List<Stress> findStressWeek(Member member, LocalDateTime endTime, LocalDateTime startTime);
+
+    int insertAll(List<StressChange> changes, LocalDateTime now);
+
+    Map<Long, Map<StressType, Long>> countLastWeekDataByMemberIds(List<Long> memberIds, LocalDateTime lastStart);
+
+    Map<Long, Integer> findLatestScoreByMemberIds(List<Long> memberIds);
+
+    List<Long> findMemberIdsHavingType(List<Long> memberIds, StressType type);
 }
@@ -1,14 +1,24 @@
 package com.senabo.domain.stress.repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.senabo.domain.member.entity.Member;
+import com.senabo.domain.stress.dto.StressChange;
+import com.senabo.domain.stress.entity.QStress;
 import com.senabo.domain.stress.entity.Stress;
 import com.senabo.domain.stress.entity.StressType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static com.senabo.domain.stress.entity.QStress.stress;
 
@@ -16,6 +26,7 @@ import static com.senabo.domain.stress.entity.QStress.stress;
 public class StressRepositoryImpl implements StressRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public List<Stress> findByMemberId(Member member) {
@@ -75,4 +86,78 @@ public class StressRepositoryImpl implements StressRepositoryCustom {
                 .orderBy(stress.createTime.desc())
                 .fetch();
     }
+
+    // 다중 행 insert 한 번으로 저장 (type 은 엔티티와 같이 ordinal 로 저장)
+    @Override
+    public int insertAll(List<StressChange> changes, LocalDateTime now) {
+        if (changes.isEmpty()) return 0;
+        StringBuilder sql = new StringBuilder(
+                "insert into stress (member_id, type, change_amount, score, create_time, update_time) values ");
+        List<Object> args = new ArrayList<>(changes.size() * 6);
+        for (int i = 0; i < changes.size(); i++) {
+            StressChange change = changes.get(i);
+            if (i > 0) sql.append(", ");
+            sql.append("(?, ?, ?, ?, ?, ?)");
+            args.add(change.memberId());
+            args.add(change.type().ordinal());
+            args.add(change.changeAmount());
+            args.add(change.score());
+            args.add(now);
+            args.add(now);
+        }
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    @Override
+    public Map<Long, Map<StressType, Long>> countLastWeekDataByMemberIds(List<Long> memberIds, LocalDateTime lastStart) {
+        Map<Long, Map<StressType, Long>> counts = new HashMap<>();
+        if (memberIds.isEmpty()) return counts;
+        List<Tuple> tuples = queryFactory
+                .select(stress.memberId.id, stress.type, stress.count())
+                .from(stress)
+                .where(
+                        stress.memberId.id.in(memberIds),
+                        stress.createTime.goe(lastStart)
+                )
+                .groupBy(stress.memberId.id, stress.type)
+                .fetch();
+        for (Tuple tuple : tuples) {
+            counts.computeIfAbsent(tuple.get(stress.memberId.id), id -> new EnumMap<>(StressType.class))
+                    .put(tuple.get(stress.type), tuple.get(stress.count()));
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<Long, Integer> findLatestScoreByMemberIds(List<Long> memberIds) {
+        if (memberIds.isEmpty()) return Map.of();
+        QStress sub = new QStress("sub");
+        return queryFactory
+                .select(stress.memberId.id, stress.score)
+                .from(stress)
+                .where(stress.id.in(
+                        JPAExpressions
+                                .select(sub.id.max())
+                                .from(sub)
+                                .where(sub.memberId.id.in(memberIds))
+                                .groupBy(sub.memberId.id)
+                ))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(tuple -> tuple.get(stress.memberId.id), tuple -> tuple.get(stress.score)));
+    }
+
+    @Override
+    public List<Long> findMemberIdsHavingType(List<Long> memberIds, StressType type) {
+        if (memberIds.isEmpty()) return List.of();
+        return queryFactory
+                .select(stress.memberId.id)
+                .distinct()
+                .from(stress)
+                .where(
+                        stress.memberId.id.in(memberIds),
+                        stress.type.eq(type)
+                )
+                .fetch();
+    }
 }
@@ -0,0 +1,50 @@
+package com.senabo.domain.stress.service;
+
+import com.senabo.domain.member.dto.MemberTick;
+import com.senabo.domain.stress.dto.StressChange;
+import com.senabo.domain.stress.entity.StressType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 스케줄러 한 틱 동안의 스트레스 변화를 모아 두었다가 StressService.flushLedger 로 한 번에 저장
+// 점수는 saveStress 와 같은 순서, 같은 방식(0 ~ 100 보정)으로 회원별 누적 계산
+// 회원 반영은 스냅샷 대비 변화량으로 해서, 읽은 뒤 커밋된 다른 변경(API 요청 등)을 덮어쓰지 않음
+public class StressLedger {
+    private final List<StressChange> changes = new ArrayList<>();
+    private final Map<Long, Integer> levels = new LinkedHashMap<>();
+    private final Map<Long, Integer> bases = new HashMap<>();
+
+    public int level(MemberTick member) {
+        return levels.getOrDefault(member.id(), member.stressLevel());
+    }
+
+    public StressChange record(MemberTick member, StressType type, int changeAmount) {
+        int score = level(member) + changeAmount;
+        if (score > 100) score = 100;
+        if (score < 0) score = 0;
+        StressChange change = new StressChange(member.id(), type, changeAmount, score);
+        changes.add(change);
+        bases.putIfAbsent(member.id(), member.stressLevel());
+        levels.put(member.id(), score);
+        return change;
+    }
+
+    public List<StressChange> getChanges() {
+        return changes;
+    }
+
+    // 회원별 최종 점수 - 스냅샷 점수 (중간 보정까지 반영한 값이라 스냅샷이 그대로면 최종 점수와 같아짐)
+    public Map<Long, Integer> getDeltas() {
+        Map<Long, Integer> deltas = new LinkedHashMap<>();
+        levels.forEach((memberId, level) -> deltas.put(memberId, level - bases.get(memberId)));
+        return deltas;
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+}
@@ -1,8 +1,10 @@
 package com.senabo.domain.stress.service;
 
+import com.senabo.domain.member.dto.MemberTick;
 import com.senabo.domain.member.entity.Member;
 import com.senabo.domain.member.service.MemberService;
 import com.senabo.domain.report.entity.Report;
+import com.senabo.domain.report.service.ReportAccumulatorService;
 import com.senabo.domain.report.service.ReportService;
 import com.senabo.domain.stress.dto.response.StressResponse;
 import com.senabo.domain.stress.entity.Stress;
@@ -31,18 +33,29 @@ import java.util.Optional;
 public class StressService {
     private final StressRepository stressRepository;
     private final MemberService memberService;
+    private final ReportAccumulatorService reportAccumulatorService;
 
     @Transactional
     public StressResponse saveStress(Member member, StressType type, int changeAmount) {
+        return saveStress(member, member.getEmail(), member.getStressLevel(), type, changeAmount);
+    }
+
+    // 스케줄러용: 스냅샷 값으로 저장하고 회원은 프록시로만 참조
+    @Transactional
+    public StressResponse saveStress(MemberTick member, StressType type, int changeAmount) {
+        return saveStress(memberService.getReference(member.id()), member.email(), member.stressLevel(), type, changeAmount);
+    }
+
+    private StressResponse saveStress(Member member, String email, int originStress, StressType type, int changeAmount) {
         log.info("스트레스 저장");
-        int originStress = member.getStressLevel();
         int score = originStress + changeAmount;
         if (score > 100) score = 100;
         if (score < 0) score = 0;
         Stress stress = stressRepository.save(
                 new Stress(member, type, changeAmount, score)
         );
-        memberService.updateStress(member.getEmail(), score);
+        memberService.updateStress(email, score);
+        reportAccumulatorService.accumulateStress(member.getId(), type);
         try {
             stressRepository.flush();
         } catch (DataIntegrityViolationException e) {
@@ -52,6 +65,20 @@ public class StressService {
     }
 
 
+    // 스케줄러 틱에서 모은 변화량을 insert 한 번, 회원 update 한 번으로 저장
+    @Transactional
+    public void flushLedger(StressLedger ledger) {
+        if (ledger.isEmpty()) return;
+        log.info("스트레스 일괄 저장: " + ledger.getChanges().size() + "건");
+        try {
+            stressRepository.insertAll(ledger.getChanges(), LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            throw new UserException(String.valueOf(ExceptionMessage.FAIL_SAVE_DATA));
+        }
+        memberService.addStressLevels(ledger.getDeltas());
+        reportAccumulatorService.accumulateStress(ledger.getChanges());
+    }
+
     public StressResponse createStress(String email, StressType type, int changeAmount) {
         Member member = memberService.findByEmail(email);
         return saveStress(member, type, changeAmount);
@@ -103,4 +130,16 @@ public class StressService {
         return stressRepository.findByMemberIdAndTypeOrderByCreateTimeDesc(member, type);
     }
 
+    // 회원별 마지막 스트레스 점수, 데이터가 없는 회원은 빠짐
+    public Map<Long, Integer> getLatestScoreMap(List<Long> memberIds) {
+        return stressRepository.findLatestScoreByMemberIds(memberIds);
+    }
+
+    public Map<Long, Map<StressType, Long>> getCountLastWeekMap(List<Long> memberIds, LocalDateTime lastStart) {
+        return stressRepository.countLastWeekDataByMemberIds(memberIds, lastStart);
+    }
+
+    public List<Long> getMemberIdsHavingType(List<Long> memberIds, StressType type) {
+        return stressRepository.findMemberIdsHavingType(memberIds, type);
+    }
 }
@@ -1,46 +1,82 @@
 package com.senabo.domain.walk.service;
 
 import com.senabo.common.message.ParsingMessageService;
-import com.senabo.config.firebase.FCMMessage;
+import com.senabo.common.schedule.ChunkExecutor;
+import com.senabo.common.schedule.JobRunner;
+import com.senabo.common.schedule.ShardCoordinator;
+import com.senabo.common.schedule.ShardRange;
 import com.senabo.config.firebase.FCMService;
-import com.senabo.domain.member.entity.Member;
+import com.senabo.config.firebase.FCMType;
+import com.senabo.domain.member.dto.MemberTick;
 import com.senabo.domain.member.service.MemberService;
+import com.senabo.domain.notification.service.NotificationOutboxService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class WalkScheduleService {
+    private static final String CHECK_WALK_JOB = "walk-check";
+    private static final String SEND_WALK_JOB = "walk-send";
+
     private final WalkService walkService;
     private final MemberService memberService;
     private final ParsingMessageService parsingMessageService;
     private final FCMService fcmService;
+    private final NotificationOutboxService notificationOutboxService;
+    private final ChunkExecutor chunkExecutor;
+    private final ShardCoordinator shardCoordinator;
+    private final JobRunner jobRunner;
+
+    @PostConstruct
+    public void init() {
+        jobRunner.register(CHECK_WALK_JOB, Duration.ofHours(23), this::runCheckWalk);
+        jobRunner.register(SEND_WALK_JOB, Duration.ofHours(4), this::runSendWalk);
+    }
+
     // 매일 오전 12시에 실행
     @Scheduled(cron = "0 0 0 * * *")
     public void scheduleCheckWalk(){
         log.info("산책 스케줄러 실행");
-        List<Member> allMember = memberService.findAllMemberNonComplete();
-        for(Member member : allMember){
-            if(member.getId() == 16) continue;
-            walkService.scheduleCheckWalk(member);
-        }
+        LocalDateTime tickTime = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        shardCoordinator.runShards(CHECK_WALK_JOB, tickTime, shard -> runCheckWalk(tickTime, shard));
+    }
+
+    private CompletableFuture<Void> runCheckWalk(LocalDateTime tickTime, ShardRange shard) {
+        return jobRunner.run(CHECK_WALK_JOB, tickTime, shard, run ->
+                chunkExecutor.run(run, memberService::forEachMemberTickChunk, MemberTick::id, chunk -> {
+                    for (MemberTick member : chunk) {
+                        if (member.id() == 16) continue;
+                        walkService.scheduleCheckWalk(member);
+                    }
+                }));
     }
 
     @Scheduled(cron = "0 0 12/20 * * *")
     public void scheduleSendWalk(){
-        log.info("산책 알림 스케줄러 실행");
+        sendWalk(LocalDateTime.now().truncatedTo(ChronoUnit.HOURS));
+    }
 
-        List<FCMMessage> walkList = memberService.findAllMemberNonComplete().stream()
-                .filter(member -> member.getDeviceToken() != null && member.getId() != 16)
-                .map(member -> fcmService.makeMessage("세상에 나쁜 보호자는 있다", parsingMessageService.parseLastCharacter(member.getDogName()) + "와 산책은 하셨나요?", member.getDeviceToken()))
-                .toList();
+    public void sendWalk(LocalDateTime tickTime) {
+        log.info("산책 알림 스케줄러 실행: " + tickTime);
+        shardCoordinator.runShards(SEND_WALK_JOB, tickTime, shard -> runSendWalk(tickTime, shard));
+    }
 
-        fcmService.sendFCM(walkList);
+    private CompletableFuture<Void> runSendWalk(LocalDateTime tickTime, ShardRange shard) {
+        return jobRunner.run(SEND_WALK_JOB, tickTime, shard, run ->
+                chunkExecutor.run(run, memberService::forEachMemberTickChunk, MemberTick::id, chunk ->
+                        notificationOutboxService.enqueue(SEND_WALK_JOB + ":" + tickTime, chunk.stream()
+                                .filter(member -> member.deviceToken() != null && member.id() != 16)
+                                .map(member -> fcmService.makeMessage(FCMType.WALK, "세상에 나쁜 보호자는 있다", parsingMessageService.parseLastCharacter(member.dogName()) + "와 산책은 하셨나요?", member.deviceToken()))
+                                .toList())));
     }
 }
@@ -4,6 +4,7 @@ import com.senabo.common.ActivityType;
 import com.senabo.common.message.ParsingMessageService;
 import com.senabo.config.firebase.FCMService;
 import com.senabo.domain.affection.service.AffectionService;
+import com.senabo.domain.member.dto.MemberTick;
 import com.senabo.domain.member.entity.Member;
 import com.senabo.domain.member.service.MemberService;
 import com.senabo.domain.report.entity.Report;
@@ -123,13 +124,13 @@ public class WalkService {
 
 
     @Transactional
-    public void scheduleCheckWalk(Member member) {
+    public void scheduleCheckWalk(MemberTick member) {
         int changeAffectionAmount = 0;
         int changeStressAmount = 0;
 
         LocalDateTime startToday = LocalDateTime.now().minus(Duration.ofDays(1)).truncatedTo(ChronoUnit.DAYS);
 
-        List<Walk> list = walkRepository.findTodayData(member, startToday);
+        List<Walk> list = walkRepository.findTodayData(memberService.getReference(member.id()), startToday);
         double totalDistance = 0.0;
         for (Walk walk : list) {
             totalDistance += walk.getDistance();
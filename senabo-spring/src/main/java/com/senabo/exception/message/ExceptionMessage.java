@@ -29,7 +29,9 @@ public enum ExceptionMessage {
 
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "유저를 찾을 수 없습니다."),
     TOKEN_NOT_FOUND(HttpStatus.NOT_FOUND, "토큰을 찾을 수 없습니다."),
-    DATA_NOT_FOUND(HttpStatus.NOT_FOUND, "데이터를 찾을 수 없습니다.");
+    DATA_NOT_FOUND(HttpStatus.NOT_FOUND, "데이터를 찾을 수 없습니다."),
+
+    JOB_RUN_LOCKED(HttpStatus.CONFLICT, "이전 스케줄러 실행이 아직 진행 중입니다.");
 
     private String message;
     private HttpStatus httpStatus;
@@ -0,0 +1,102 @@
+package com.senabo.config.firebase;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FCMConcurrencyLimiterTest {
+
+	private FCMConcurrencyLimiter limiter;
+
+	@BeforeEach
+	void setUp() {
+		limiter = new FCMConcurrencyLimiter(new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(limiter, "min", 1);
+		ReflectionTestUtils.setField(limiter, "max", 16);
+		ReflectionTestUtils.setField(limiter, "initial", 4);
+		ReflectionTestUtils.setField(limiter, "backoffRatio", 0.5);
+		ReflectionTestUtils.setField(limiter, "latencyTolerance", 2.0);
+		ReflectionTestUtils.setField(limiter, "highShare", 1.0);
+		ReflectionTestUtils.setField(limiter, "normalShare", 0.75);
+		ReflectionTestUtils.setField(limiter, "lowShare", 0.5);
+		ReflectionTestUtils.setField(limiter, "starvationTimeout", 5000L);
+		limiter.init();
+	}
+
+	@Test
+	void mixedChunkSizesWithHealthyLatencyDoNotShrinkLimit() {
+		// 1건 청크는 20ms, 500건 청크는 200ms - 청크 크기만큼 느린 건 정상
+		int previous = limiter.getLimit();
+		for (int i = 0; i < 200; i++) {
+			int chunkSize = i % 2 == 0 ? 1 : 500;
+			long latency = chunkSize == 1 ? ms(20) : ms(200);
+			limiter.acquire(FCMPriority.NORMAL);
+			limiter.release(FCMPriority.NORMAL, chunkSize, latency, List.of());
+
+			assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(previous);
+			previous = limiter.getLimit();
+		}
+		assertThat(limiter.getLimit()).isEqualTo(16);
+	}
+
+	@Test
+	void slowResponseForSameChunkSizeBacksOff() {
+		for (int i = 0; i < 30; i++) {
+			limiter.acquire(FCMPriority.NORMAL);
+			limiter.release(FCMPriority.NORMAL, 500, ms(200), List.of());
+		}
+		int healthy = limiter.getLimit();
+
+		limiter.acquire(FCMPriority.NORMAL);
+		limiter.release(FCMPriority.NORMAL, 500, ms(1000), List.of());
+
+		assertThat(limiter.getLimit()).isLessThan(healthy);
+	}
+
+	@Test
+	void overloadOrFailedChunkCutsLimitDownToMin() {
+		limiter.acquire(FCMPriority.NORMAL);
+		limiter.release(FCMPriority.NORMAL, 500, ms(100),
+				List.of(FCMResult.failure(null, MessagingErrorCode.QUOTA_EXCEEDED)));
+		assertThat(limiter.getLimit()).isEqualTo(2);
+
+		for (int i = 0; i < 5; i++) {
+			limiter.acquire(FCMPriority.NORMAL);
+			limiter.release(FCMPriority.NORMAL, 500, ms(100), null);
+		}
+		assertThat(limiter.getLimit()).isEqualTo(1);
+	}
+
+	@Test
+	void lowLaneWaitsBeyondItsShare() throws InterruptedException {
+		// limit 4, LOW share 0.5 -> LOW 는 2 자리까지
+		limiter.acquire(FCMPriority.LOW);
+		limiter.acquire(FCMPriority.LOW);
+
+		Thread third = new Thread(() -> limiter.acquire(FCMPriority.LOW));
+		third.start();
+		third.join(200);
+		assertThat(third.isAlive()).isTrue();
+		assertThat(limiter.getWaiting()).isEqualTo(1);
+
+		// HIGH 는 남은 자리를 바로 사용
+		limiter.acquire(FCMPriority.HIGH);
+		assertThat(limiter.getInFlight()).isEqualTo(3);
+
+		limiter.release(FCMPriority.LOW, 1, ms(20), List.of());
+		third.join(1000);
+		assertThat(third.isAlive()).isFalse();
+		assertThat(limiter.getWaiting()).isZero();
+	}
+
+	private static long ms(long millis) {
+		return TimeUnit.MILLISECONDS.toNanos(millis);
+	}
+}
@@ -0,0 +1,29 @@
+package com.senabo.config.firebase;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FCMResultTest {
+
+	@Test
+	void unregisteredAndSenderMismatchAreInvalidTokens() {
+		assertThat(FCMResult.failure(null, MessagingErrorCode.UNREGISTERED).isInvalidToken()).isTrue();
+		assertThat(FCMResult.failure(null, MessagingErrorCode.SENDER_ID_MISMATCH).isInvalidToken()).isTrue();
+		assertThat(FCMResult.failure(null, MessagingErrorCode.QUOTA_EXCEEDED).isInvalidToken()).isFalse();
+		assertThat(FCMResult.failure(null, null).isInvalidToken()).isFalse();
+	}
+
+	@Test
+	void invalidArgumentIsInvalidTokenOnlyWhenDetailNamesTheToken() {
+		assertThat(FCMResult.failure(null, MessagingErrorCode.INVALID_ARGUMENT,
+				"The registration token is not a valid FCM registration token").isInvalidToken()).isTrue();
+		assertThat(FCMResult.failure(null, MessagingErrorCode.INVALID_ARGUMENT,
+				"Request contains an invalid argument. message.token").isInvalidToken()).isTrue();
+
+		assertThat(FCMResult.failure(null, MessagingErrorCode.INVALID_ARGUMENT,
+				"Invalid value at 'message.notification.title'").isInvalidToken()).isFalse();
+		assertThat(FCMResult.failure(null, MessagingErrorCode.INVALID_ARGUMENT).isInvalidToken()).isFalse();
+	}
+}
@@ -0,0 +1,77 @@
+package com.senabo.config.firebase;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// FCM HTTP v1 messages:send 를 흉내 내는 로컬 스텁 (HttpPushSender 부하 테스트용, 테스트 소스에만 있음)
+// invalid 로 시작하는 토큰은 404 UNREGISTERED, 나머지는 200
+// 사용: benchmark 프로필에서 fcm.stub.enabled=true, fcm.sender=http, fcm.http.auth=false
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "fcm.stub.enabled", havingValue = "true")
+public class FCMStubServer {
+    private static final String INVALID_TOKEN_PREFIX = "invalid";
+    private static final String UNREGISTERED = """
+            {"error":{"code":404,"status":"NOT_FOUND","details":[{"@type":"type.googleapis.com/google.firebase.fcm.v1.FcmError","errorCode":"UNREGISTERED"}]}}""";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${fcm.stub.port}")
+    private int port;
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void start() throws IOException {
+        executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
+        server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+        log.info("FCM 스텁 서버 시작: " + port);
+    }
+
+    @PreDestroy
+    public void stop() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+        String token = request.path("message").path("token").asText("");
+        if (token.startsWith(INVALID_TOKEN_PREFIX)) {
+            respond(exchange, 404, UNREGISTERED);
+            return;
+        }
+        respond(exchange, 200, "{\"name\":\"projects/stub/messages/" + UUID.randomUUID() + "\"}");
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.senabo.config.firebase;
+
+import com.senabo.domain.member.entity.Member;
+import com.senabo.domain.member.entity.Sex;
+import com.senabo.domain.member.entity.Species;
+import com.senabo.domain.notification.service.NotificationOutboxService;
+import com.senabo.domain.walk.service.WalkScheduleService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+// 산책 알림 스케줄러 -> 아웃박스 -> FCMDispatcher 경로 처리량 (가짜 전송, Google 자격 증명 불필요)
+// 실행: ./gradlew benchmark -Dbenchmark.members=2000 (fcm.fake.* 로 지연/오류율/쿼터 조절)
+// benchmark 프로필의 별도 스키마에서 실제로 오지 않는 틱 시각으로 실행
+@Tag("benchmark")
+@ActiveProfiles("benchmark")
+@SpringBootTest(properties = {
+		"fcm.sender=fake",
+		"scheduler.spread.walk-send=0",
+		"notification.outbox.poll-delay=50"
+})
+class PushDispatchBenchmarkTest {
+	private static final String WALK_SEND_JOB = "walk-send";
+	private static final String EMAIL_PREFIX = "push-benchmark-";
+	private static final String TOKEN_PREFIX = "bench-token-";
+	private static final long TIMEOUT_MILLIS = 300_000;
+	private static final LocalDateTime TICK_TIME = LocalDateTime.of(2000, 1, 1, 12, 0);
+
+	@Autowired
+	private WalkScheduleService walkScheduleService;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@SpyBean
+	private NotificationOutboxService notificationOutboxService;
+
+	@SpyBean
+	private FCMService fcmService;
+
+	private final Map<String, Long> enqueued = new ConcurrentHashMap<>();
+	private final Map<String, Long> acked = new ConcurrentHashMap<>();
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void walkSendThroughput() throws InterruptedException {
+		int memberCount = Integer.getInteger("benchmark.members", 2000);
+		seed(memberCount);
+
+		doAnswer(invocation -> {
+			long now = System.nanoTime();
+			for (FCMMessage message : (List<FCMMessage>) invocation.getArgument(1)) {
+				enqueued.putIfAbsent(message.getMessage().getToken(), now);
+			}
+			return invocation.callRealMethod();
+		}).when(notificationOutboxService).enqueue(anyString(), anyList());
+
+		doAnswer(invocation -> {
+			CompletableFuture<List<FCMResult>> future = (CompletableFuture<List<FCMResult>>) invocation.callRealMethod();
+			return future.thenApply(results -> {
+				long now = System.nanoTime();
+				results.forEach(result -> acked.putIfAbsent(result.token(), now));
+				return results;
+			});
+		}).when(fcmService).sendFCM(any());
+
+		long start = System.nanoTime();
+		walkScheduleService.sendWalk(TICK_TIME);
+		long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+		while (benchAcked() < memberCount && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+		long elapsed = System.nanoTime() - start;
+
+		assertThat(benchAcked()).isEqualTo(memberCount);
+		long[] latencies = enqueued.entrySet().stream()
+				.filter(entry -> entry.getKey().startsWith(TOKEN_PREFIX))
+				.mapToLong(entry -> acked.get(entry.getKey()) - entry.getValue())
+				.sorted()
+				.toArray();
+		long p99 = latencies[(int) Math.ceil(latencies.length * 0.99) - 1] / 1_000_000;
+		double throughput = memberCount / (elapsed / 1_000_000_000.0);
+
+		System.out.printf("산책 알림 %d건: %.0f msg/s, 등록->응답 p99 %d ms%n", memberCount, throughput, p99);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		jdbcTemplate.update("delete from notification_outbox where token like ?", TOKEN_PREFIX + "%");
+		jdbcTemplate.update("delete from member where email like ?", EMAIL_PREFIX + "%");
+		deleteJobRuns();
+	}
+
+	private long benchAcked() {
+		return acked.keySet().stream().filter(token -> token.startsWith(TOKEN_PREFIX)).count();
+	}
+
+	private void seed(int memberCount) {
+		deleteJobRuns();
+		transactionTemplate.executeWithoutResult(status -> {
+			for (int i = 0; i < memberCount; i++) {
+				entityManager.persist(new Member("dog" + i, EMAIL_PREFIX + i + "@senabo.com", Species.CORGI, Sex.M,
+						BigDecimal.ZERO, BigDecimal.ZERO, TOKEN_PREFIX + i));
+				if (i % 500 == 499) {
+					entityManager.flush();
+					entityManager.clear();
+				}
+			}
+		});
+	}
+
+	// 벤치마크 틱의 walk-send 실행 기록이 남아 있으면 다음 실행이 완료된 실행으로 건너뜀
+	private void deleteJobRuns() {
+		jdbcTemplate.update("delete from job_run where job = ? and tick_time = ?", WALK_SEND_JOB, TICK_TIME);
+	}
+}
@@ -0,0 +1,142 @@
+package com.senabo.domain.emergency.service;
+
+import com.senabo.domain.emergency.entity.EmergencyPlan;
+import com.senabo.domain.emergency.entity.EmergencyPlanBit;
+import com.senabo.domain.emergency.entity.EmergencyType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static com.senabo.domain.emergency.entity.EmergencyPlan.SLOTS;
+import static com.senabo.domain.emergency.entity.EmergencyPlan.index;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmergencyPlannerTest {
+	// 월요일에 시작하는 리포트 주차
+	private static final LocalDate REPORT_START = LocalDate.of(2026, 10, 12);
+
+	private final EmergencyPlanner planner = new EmergencyPlanner();
+
+	@Test
+	void rolloverHoursAreCoveredByPreviousPlan() {
+		LocalDateTime previousStart = EmergencyPlan.weekStartOf(REPORT_START.minusDays(7));
+		LocalDateTime nextStart = EmergencyPlan.weekStartOf(REPORT_START);
+		assertThat(previousStart.plusHours(SLOTS)).isEqualTo(nextStart);
+
+		// 마감일 0시, 1시 주중 저녁 슬롯은 이전 계획의 마지막 슬롯
+		BitSet bits = new BitSet();
+		bits.set(index(EmergencyPlanBit.CRUSH, SLOTS - 2));
+		bits.set(index(EmergencyPlanBit.BITE, SLOTS - 1));
+		EmergencyPlan previous = new EmergencyPlan(null, previousStart, bits, previousStart);
+		assertThat(previous.has(EmergencyPlanBit.CRUSH, REPORT_START.atTime(0, 0))).isTrue();
+		assertThat(previous.has(EmergencyPlanBit.BITE, REPORT_START.atTime(1, 0))).isTrue();
+
+		// 새 계획은 마감(1시) 뒤 첫 슬롯부터
+		assertThat(nextStart).isAfter(REPORT_START.atTime(1, 0));
+	}
+
+	@Test
+	void dayTypeCapsHoldOverRollingSevenDaysIncludingHistory() {
+		LocalDateTime weekStart = EmergencyPlan.weekStartOf(REPORT_START);
+		Random random = new Random(7);
+		for (int round = 0; round < 200; round++) {
+			// 지난 주차 마지막 이틀에 POOP 4회, CRUSH 3회
+			Map<EmergencyType, List<LocalDateTime>> history = new EnumMap<>(EmergencyType.class);
+			history.put(EmergencyType.POOP, List.of(
+					weekStart.minusDays(2).withHour(13), weekStart.minusDays(2).withHour(14),
+					weekStart.minusDays(1).withHour(13), weekStart.minusDays(1).withHour(14)));
+			history.put(EmergencyType.CRUSH, List.of(
+					weekStart.minusDays(2).withHour(0), weekStart.minusDays(1).withHour(0), weekStart.minusDays(1).withHour(1)));
+
+			BitSet bits = planner.plan(weekStart, weekStart, history, random);
+
+			for (EmergencyType type : List.of(EmergencyType.POOP, EmergencyType.STOMACHACHE, EmergencyType.ANXIETY, EmergencyType.DEPRESSION)) {
+				List<LocalDateTime> times = new ArrayList<>(history.getOrDefault(type, List.of()));
+				for (LocalDateTime time : planned(bits, weekStart, EmergencyPlanBit.of(type))) {
+					assertThat(EmergencyPlanner.countLastWeek(times, time)).isLessThanOrEqualTo(3);
+					times.add(time);
+				}
+			}
+			for (EmergencyType type : List.of(EmergencyType.CRUSH, EmergencyType.BITE)) {
+				List<LocalDateTime> times = new ArrayList<>(history.getOrDefault(type, List.of()));
+				for (LocalDateTime time : planned(bits, weekStart, EmergencyPlanBit.of(type))) {
+					assertThat(EmergencyPlanner.countLastWeek(times, time)).isNotEqualTo(3);
+					times.add(time);
+				}
+			}
+		}
+	}
+
+	@Test
+	void historyAtCapBlocksTypeUntilItLeavesWindow() {
+		LocalDateTime weekStart = EmergencyPlan.weekStartOf(REPORT_START);
+		Map<EmergencyType, List<LocalDateTime>> history = new EnumMap<>(EmergencyType.class);
+		for (EmergencyType type : List.of(EmergencyType.POOP, EmergencyType.STOMACHACHE, EmergencyType.ANXIETY, EmergencyType.DEPRESSION)) {
+			List<LocalDateTime> times = new ArrayList<>();
+			for (int i = 0; i < 4; i++) times.add(weekStart.minusDays(1).withHour(13 + i));
+			history.put(type, times);
+		}
+
+		// 어제 4회씩 발생했으면 (7일 전 0시 기준) 다음 주차 첫 6일 동안은 낮 돌발상황이 없음
+		Random random = new Random(11);
+		for (int round = 0; round < 50; round++) {
+			BitSet bits = planner.plan(weekStart, weekStart, history, random);
+			for (EmergencyType type : history.keySet()) {
+				assertThat(planned(bits, weekStart, EmergencyPlanBit.of(type)))
+						.allMatch(time -> !time.isBefore(REPORT_START.plusDays(7).atStartOfDay()));
+			}
+		}
+	}
+
+	@Test
+	void slotsBeforeFromAreLeftEmpty() {
+		LocalDateTime weekStart = EmergencyPlan.weekStartOf(REPORT_START);
+		LocalDateTime from = weekStart.plusDays(3);
+		Random random = new Random(3);
+		for (int round = 0; round < 50; round++) {
+			BitSet bits = planner.plan(weekStart, from, Map.of(), random);
+			for (EmergencyPlanBit bit : EmergencyPlanBit.values()) {
+				assertThat(planned(bits, weekStart, bit)).allMatch(time -> !time.isBefore(from));
+			}
+		}
+	}
+
+	@Test
+	void weekendChecksFollowTheSameDayAlert() {
+		LocalDateTime weekStart = EmergencyPlan.weekStartOf(REPORT_START);
+		Random random = new Random(5);
+		for (int round = 0; round < 200; round++) {
+			BitSet bits = planner.plan(weekStart, weekStart, Map.of(), random);
+			assertFollows(bits, weekStart, EmergencyPlanBit.WALK, EmergencyPlanBit.WALK_CHECK);
+			assertFollows(bits, weekStart, EmergencyPlanBit.VOMITING, EmergencyPlanBit.VOMITING_CHECK);
+
+			// 주말 짖음은 하루 한 번
+			List<LocalDateTime> barks = planned(bits, weekStart, EmergencyPlanBit.BARKING);
+			assertThat(barks).hasSize(2);
+			assertThat(barks).extracting(LocalDateTime::toLocalDate).doesNotHaveDuplicates();
+		}
+	}
+
+	private void assertFollows(BitSet bits, LocalDateTime weekStart, EmergencyPlanBit send, EmergencyPlanBit check) {
+		List<LocalDateTime> sends = planned(bits, weekStart, send);
+		assertThat(sends).extracting(LocalDateTime::toLocalDate).doesNotHaveDuplicates();
+		for (LocalDateTime time : planned(bits, weekStart, check)) {
+			assertThat(sends).anyMatch(sent -> sent.toLocalDate().equals(time.toLocalDate()) && sent.isBefore(time));
+		}
+	}
+
+	private List<LocalDateTime> planned(BitSet bits, LocalDateTime weekStart, EmergencyPlanBit bit) {
+		List<LocalDateTime> times = new ArrayList<>();
+		for (int slot = 0; slot < SLOTS; slot++) {
+			if (bits.get(index(bit, slot))) times.add(weekStart.plusHours(slot));
+		}
+		return times;
+	}
+}
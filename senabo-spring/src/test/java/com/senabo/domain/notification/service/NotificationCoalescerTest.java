@@ -0,0 +1,91 @@
+package com.senabo.domain.notification.service;
+
+import com.senabo.config.firebase.FCMMessage;
+import com.senabo.config.firebase.FCMService;
+import com.senabo.config.firebase.FCMType;
+import com.senabo.domain.notification.dto.CoalescedNotification;
+import com.senabo.domain.notification.entity.NotificationOutbox;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationCoalescerTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private NotificationCoalescer coalescer;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		// makeMessage 는 전송하지 않으므로 dispatcher 없이 사용
+		coalescer = new NotificationCoalescer(new FCMService(null), meterRegistry);
+	}
+
+	@Test
+	void singleNotificationIsSentAsIs() {
+		List<CoalescedNotification> notifications = coalescer.coalesce(List.of(
+				outbox(1L, "token-a", FCMType.FEED, "배식")));
+
+		assertThat(notifications).hasSize(1);
+		FCMMessage message = notifications.get(0).message();
+		assertThat(message.getType()).isEqualTo(FCMType.FEED);
+		assertThat(message.getMessage().getToken()).isEqualTo("token-a");
+		assertThat(message.getMessage().getNotification().getBody()).isEqualTo("배식");
+		assertThat(meterRegistry.counter("notification.coalesced").count()).isZero();
+	}
+
+	@Test
+	void sameTokenIsMergedUnderHighestPriority() {
+		NotificationOutbox walk = outbox(1L, "token-a", FCMType.WALK, "산책");
+		NotificationOutbox emergency = outbox(2L, "token-a", FCMType.EMERGENCY, "돌발");
+		NotificationOutbox feed = outbox(3L, "token-a", FCMType.FEED, "배식");
+
+		List<CoalescedNotification> notifications = coalescer.coalesce(List.of(walk, emergency, feed));
+
+		assertThat(notifications).hasSize(1);
+		CoalescedNotification notification = notifications.get(0);
+		assertThat(notification.outboxes()).containsExactly(emergency, feed, walk);
+		assertThat(notification.message().getType()).isEqualTo(FCMType.EMERGENCY);
+		assertThat(notification.message().getMessage().getNotification().getBody()).isEqualTo("돌발 외 2건");
+		assertThat(meterRegistry.counter("notification.coalesced").count()).isEqualTo(2);
+	}
+
+	@Test
+	void untypedRowsGoLastAndTiesKeepIdOrder() {
+		NotificationOutbox untyped = outbox(1L, "token-a", null, "이전 알림");
+		NotificationOutbox later = outbox(5L, "token-a", FCMType.POOP, "배변 2");
+		NotificationOutbox earlier = outbox(4L, "token-a", FCMType.POOP, "배변 1");
+
+		CoalescedNotification notification = coalescer.coalesce(List.of(untyped, later, earlier)).get(0);
+
+		assertThat(notification.outboxes()).containsExactly(earlier, later, untyped);
+		assertThat(notification.message().getMessage().getNotification().getBody()).isEqualTo("배변 1 외 2건");
+	}
+
+	@Test
+	void differentTokensStaySeparateInClaimOrder() {
+		List<CoalescedNotification> notifications = coalescer.coalesce(List.of(
+				outbox(1L, "token-b", FCMType.WALK, "산책"),
+				outbox(2L, "token-a", FCMType.FEED, "배식"),
+				outbox(3L, "token-b", FCMType.FEED, "배식")));
+
+		assertThat(notifications).extracting(notification -> notification.message().getMessage().getToken())
+				.containsExactly("token-b", "token-a");
+		assertThat(notifications.get(0).outboxes()).hasSize(2);
+		assertThat(notifications.get(1).outboxes()).hasSize(1);
+	}
+
+	private NotificationOutbox outbox(Long id, String token, FCMType type, String body) {
+		return NotificationOutbox.builder()
+				.id(id)
+				.token(token)
+				.type(type)
+				.title("세상에 나쁜 보호자는 있다")
+				.body(body)
+				.build();
+	}
+}
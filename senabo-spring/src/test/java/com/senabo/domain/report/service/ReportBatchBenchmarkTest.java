@@ -0,0 +1,105 @@
+package com.senabo.domain.report.service;
+
+import com.senabo.common.ActivityType;
+import com.senabo.domain.affection.entity.Affection;
+import com.senabo.domain.communication.entity.Communication;
+import com.senabo.domain.member.entity.Member;
+import com.senabo.domain.member.entity.Sex;
+import com.senabo.domain.member.entity.Species;
+import com.senabo.domain.report.entity.Report;
+import com.senabo.domain.stress.entity.Stress;
+import com.senabo.domain.stress.entity.StressType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 주간 리포트 마감: 회원별 ReportService.scheduleReport 와 ReportBatchService.scheduleReports 비교
+// 실행: ./gradlew benchmark (데이터는 트랜잭션 롤백으로 정리)
+@Tag("benchmark")
+@SpringBootTest
+class ReportBatchBenchmarkTest {
+	private static final int MEMBER_COUNT = 500;
+	private static final String EMAIL_PREFIX = "report-benchmark-";
+
+	@Autowired
+	private ReportService reportService;
+
+	@Autowired
+	private ReportBatchService reportBatchService;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	void compareWithPerMemberPath() {
+		// 워밍업
+		measure(members -> members.forEach(reportService::scheduleReport));
+		measure(reportBatchService::scheduleReports);
+
+		long perMember = measure(members -> members.forEach(reportService::scheduleReport));
+		long batch = measure(reportBatchService::scheduleReports);
+
+		System.out.printf("리포트 마감 %d명: 회원별 %d ms, 일괄 %d ms%n", MEMBER_COUNT, perMember, batch);
+	}
+
+	private long measure(Consumer<List<Member>> path) {
+		return transactionTemplate.execute(status -> {
+			List<Member> members = seed();
+			long start = System.nanoTime();
+			path.accept(members);
+			entityManager.flush();
+			long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+			Integer created = jdbcTemplate.queryForObject(
+					"select count(*) from report r join member m on m.id = r.member_id where m.email like ? and r.week = 2",
+					Integer.class, EMAIL_PREFIX + "%");
+			assertThat(created).isEqualTo(MEMBER_COUNT);
+
+			status.setRollbackOnly();
+			return elapsed;
+		});
+	}
+
+	private List<Member> seed() {
+		List<Member> members = new ArrayList<>();
+		for (int i = 0; i < MEMBER_COUNT; i++) {
+			Member member = new Member("dog" + i, EMAIL_PREFIX + i + "@senabo.com", Species.CORGI, Sex.M,
+					BigDecimal.ZERO, BigDecimal.ZERO, null);
+			entityManager.persist(member);
+			entityManager.persist(new Report(member, 1, 0, 50));
+			entityManager.persist(new Affection(member, ActivityType.PAT, 1, i % 100));
+			entityManager.persist(new Communication(member, ActivityType.PAT));
+			for (StressType type : List.of(StressType.FEED, StressType.POOP, StressType.WALK)) {
+				entityManager.persist(new Stress(member, type, 5, 50 + i % 50));
+			}
+			members.add(member);
+		}
+		entityManager.flush();
+
+		// 리포트 시작일을 7일 전으로
+		jdbcTemplate.update(
+				"update report r join member m on m.id = r.member_id set r.create_time = ? where m.email like ?",
+				LocalDateTime.now().truncatedTo(ChronoUnit.DAYS).minusDays(7), EMAIL_PREFIX + "%");
+		entityManager.clear();
+		return members;
+	}
+}
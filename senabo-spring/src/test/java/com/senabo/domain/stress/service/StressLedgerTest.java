@@ -0,0 +1,85 @@
+package com.senabo.domain.stress.service;
+
+import com.senabo.domain.member.dto.MemberTick;
+import com.senabo.domain.stress.dto.StressChange;
+import com.senabo.domain.stress.entity.StressType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// StressLedger 의 보정/변화량 계산만 확인
+// MemberRepositoryImpl.addStressLevels 의 SQL(least/greatest)은 실행하지 않고 clamp 로 같은 식을 흉내냄
+class StressLedgerTest {
+
+	@Test
+	void ledgerClampsEachChangeInOrder() {
+		MemberTick member = member(1L, 95);
+		StressLedger ledger = new StressLedger();
+
+		ledger.record(member, StressType.FEED, 10);
+		ledger.record(member, StressType.POOP, -5);
+
+		assertThat(ledger.getChanges()).extracting(StressChange::score).containsExactly(100, 95);
+		assertThat(ledger.level(member)).isEqualTo(95);
+		// 중간 보정(105 -> 100) 후의 최종 점수 기준 변화량
+		assertThat(ledger.getDeltas()).containsEntry(1L, 0);
+	}
+
+	@Test
+	void deltasReplayedWithClampMatchPerMemberPath() {
+		Random random = new Random(42);
+		StressType[] types = StressType.values();
+		for (int round = 0; round < 200; round++) {
+			List<MemberTick> members = new ArrayList<>();
+			for (long id = 1; id <= 20; id++) {
+				members.add(member(id, random.nextInt(101)));
+			}
+
+			// 회원별 경로: saveStress 를 변화마다 순서대로 호출 (member.stress_level = 보정한 점수)
+			Map<Long, Integer> perMember = new HashMap<>();
+			members.forEach(member -> perMember.put(member.id(), member.stressLevel()));
+			StressLedger ledger = new StressLedger();
+			for (int i = 0; i < 60; i++) {
+				MemberTick member = members.get(random.nextInt(members.size()));
+				int changeAmount = random.nextInt(41) - 20;
+				int expected = clamp(perMember.get(member.id()) + changeAmount);
+				perMember.put(member.id(), expected);
+
+				StressChange change = ledger.record(member, types[random.nextInt(types.length)], changeAmount);
+				assertThat(change.score()).isEqualTo(expected);
+			}
+
+			// 일괄 경로: 변화량을 한 번에 더하고 0..100 으로 보정 (addStressLevels 와 같은 식)
+			Map<Long, Integer> batched = new HashMap<>();
+			members.forEach(member -> batched.put(member.id(), member.stressLevel()));
+			ledger.getDeltas().forEach((id, delta) -> batched.put(id, clamp(batched.get(id) + delta)));
+
+			assertThat(batched).isEqualTo(perMember);
+		}
+	}
+
+	@Test
+	void deltaKeepsChangesCommittedAfterSnapshot() {
+		MemberTick member = member(1L, 50);
+		StressLedger ledger = new StressLedger();
+		ledger.record(member, StressType.FEED, 10);
+
+		// 스냅샷을 읽은 뒤 API 요청으로 30 이 된 경우 절대값(60)으로 덮어쓰지 않음
+		int current = 30;
+		assertThat(clamp(current + ledger.getDeltas().get(1L))).isEqualTo(40);
+	}
+
+	private static int clamp(int score) {
+		return Math.min(100, Math.max(0, score));
+	}
+
+	private static MemberTick member(Long id, int stressLevel) {
+		return new MemberTick(id, id + "@senabo.com", "dog", null, stressLevel, 0);
+	}
+}